@@ -0,0 +1,76 @@
+package com.supplychainx.benchmark;
+
+import com.supplychainx.common.entity.User;
+import com.supplychainx.common.enums.UserRole;
+import com.supplychainx.common.repository.UserRepository;
+import com.supplychainx.security.AuthenticationCache;
+import com.supplychainx.security.AuthenticationService;
+import com.supplychainx.security.KnownEmailFilter;
+import com.supplychainx.security.LoginAttemptLimiter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * AuthenticationService.authenticate avec un cache chaud (identifiants déjà vérifiés)
+ * et froid (recherche dans le dépôt en mémoire puis comparaison BCrypt à chaque appel).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AuthenticationBenchmark {
+
+    private static final String EMAIL = "planificateur@supplychainx.com";
+    private static final String PASSWORD = "password123";
+
+    @Param({"4", "10"})
+    public int strength;
+
+    private AuthenticationService authenticationService;
+    private AuthenticationCache authenticationCache;
+
+    @Setup
+    public void setUp() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        BCryptPasswordEncoder passwordEncoder = new BCryptPasswordEncoder(strength);
+        User user = InMemoryUserRepository.user(1L, EMAIL, PASSWORD, UserRole.PLANIFICATEUR, passwordEncoder);
+        UserRepository userRepository = InMemoryUserRepository.create(Map.of(EMAIL, user));
+
+        authenticationCache = new AuthenticationCache(10_000, Duration.ofMinutes(5), meterRegistry);
+        KnownEmailFilter knownEmailFilter = new KnownEmailFilter(userRepository, 0.01, Duration.ofSeconds(5), meterRegistry);
+        knownEmailFilter.rebuild();
+        LoginAttemptLimiter loginAttemptLimiter = new LoginAttemptLimiter(5, 20, Duration.ofMinutes(5), 100_000, meterRegistry);
+        authenticationService = new AuthenticationService(userRepository, passwordEncoder,
+                authenticationCache, loginAttemptLimiter, knownEmailFilter);
+
+        authenticationService.authenticate(EMAIL, PASSWORD, "127.0.0.1");
+    }
+
+    @Benchmark
+    public User warmCache() {
+        return authenticationService.authenticate(EMAIL, PASSWORD, "127.0.0.1");
+    }
+
+    @Benchmark
+    public User coldCache() {
+        authenticationCache.evict(EMAIL);
+        return authenticationService.authenticate(EMAIL, PASSWORD, "127.0.0.1");
+    }
+}
@@ -0,0 +1,70 @@
+package com.supplychainx.benchmark;
+
+import com.supplychainx.common.enums.UserRole;
+import com.supplychainx.production.controller.BillOfMaterialController;
+import com.supplychainx.security.AuthorizationTable;
+import com.supplychainx.security.RequiresRole;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.beans.factory.support.RootBeanDefinition;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compare la vérification de rôle historique de SecurityAspect (réflexion sur l'annotation
+ * puis parcours linéaire du tableau de rôles) avec la table construite au démarrage.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AuthorizationBenchmark {
+
+    private Method method;
+    private AuthorizationTable authorizationTable;
+    private final UserRole role = UserRole.SUPERVISEUR_PRODUCTION;
+
+    @Setup
+    public void setUp() throws NoSuchMethodException {
+        method = BillOfMaterialController.class.getMethod("getAllBillOfMaterials");
+
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+        beanFactory.registerBeanDefinition("billOfMaterialController",
+                new RootBeanDefinition(BillOfMaterialController.class));
+        authorizationTable = new AuthorizationTable(beanFactory);
+        authorizationTable.afterSingletonsInstantiated();
+    }
+
+    @Benchmark
+    public boolean reflectiveAspectPath() {
+        RequiresRole requiresRole = method.getAnnotation(RequiresRole.class);
+        UserRole[] requiredRoles = requiresRole.value();
+        if (role == UserRole.ADMIN) {
+            return true;
+        }
+        for (UserRole requiredRole : requiredRoles) {
+            if (role == requiredRole) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Benchmark
+    public boolean startupTablePath() {
+        authorizationTable.check(method, role);
+        return true;
+    }
+}
@@ -0,0 +1,55 @@
+package com.supplychainx.benchmark;
+
+import com.supplychainx.common.entity.User;
+import com.supplychainx.common.enums.UserRole;
+import com.supplychainx.common.repository.UserRepository;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * UserRepository en mémoire pour les benchmarks : seules les méthodes utilisées
+ * par le chemin d'authentification sont implémentées, sans base de données ni contexte Spring.
+ */
+final class InMemoryUserRepository {
+
+    private InMemoryUserRepository() {
+    }
+
+    static UserRepository create(Map<String, User> usersByEmail) {
+        Map<String, User> store = new ConcurrentHashMap<>(usersByEmail);
+        return (UserRepository) Proxy.newProxyInstance(
+                UserRepository.class.getClassLoader(),
+                new Class<?>[]{UserRepository.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "findByEmail" -> Optional.ofNullable(store.get((String) args[0]));
+                    case "existsByEmail" -> store.containsKey((String) args[0]);
+                    case "findAllEmails" -> new ArrayList<>(store.keySet());
+                    case "findMaxIdUser" -> store.values().stream().map(User::getIdUser).max(Long::compare).orElse(null);
+                    case "save" -> {
+                        User user = (User) args[0];
+                        store.put(user.getEmail(), user);
+                        yield user;
+                    }
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == args[0];
+                    case "toString" -> "InMemoryUserRepository" + store.keySet();
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+    }
+
+    static User user(long id, String email, String rawPassword, UserRole role, PasswordEncoder passwordEncoder) {
+        User user = new User();
+        user.setIdUser(id);
+        user.setFirstName("Bench");
+        user.setLastName("User" + id);
+        user.setEmail(email);
+        user.setPassword(passwordEncoder.encode(rawPassword));
+        user.setRole(role);
+        return user;
+    }
+}
@@ -0,0 +1,57 @@
+package com.supplychainx.benchmark;
+
+import com.supplychainx.common.enums.UserRole;
+import com.supplychainx.security.AuthenticationService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * AuthenticationService.checkRole : ADMIN (sortie immédiate), rôle trouvé en fin de tableau
+ * et rôle refusé (coût de l'exception compris).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RoleCheckBenchmark {
+
+    private final UserRole[] requiredRoles = {
+            UserRole.GESTIONNAIRE_APPROVISIONNEMENT,
+            UserRole.RESPONSABLE_ACHATS,
+            UserRole.SUPERVISEUR_PRODUCTION
+    };
+
+    private final AuthenticationService authenticationService =
+            new AuthenticationService(null, null, null, null, null);
+
+    @Benchmark
+    public void admin() {
+        authenticationService.checkRole(UserRole.ADMIN, requiredRoles);
+    }
+
+    @Benchmark
+    public void lastAllowedRole() {
+        authenticationService.checkRole(UserRole.SUPERVISEUR_PRODUCTION, requiredRoles);
+    }
+
+    @Benchmark
+    public boolean deniedRole() {
+        try {
+            authenticationService.checkRole(UserRole.PLANIFICATEUR, requiredRoles);
+            return true;
+        } catch (RuntimeException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package com.supplychainx.benchmark;
+
+import com.supplychainx.common.entity.User;
+import com.supplychainx.common.enums.UserRole;
+import com.supplychainx.common.repository.UserRepository;
+import com.supplychainx.security.AuthenticationCache;
+import com.supplychainx.security.AuthenticationService;
+import com.supplychainx.security.AuthorizationTable;
+import com.supplychainx.security.KnownEmailFilter;
+import com.supplychainx.security.LoginAttemptLimiter;
+import com.supplychainx.security.RequiresRole;
+import com.supplychainx.security.SecurityAspect;
+import com.supplychainx.security.TokenService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.beans.factory.support.RootBeanDefinition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Surcoût de SecurityAspect autour d'un endpoint @RequiresRole : appel direct (référence),
+ * appel proxifié avec jeton Bearer, avec identifiants en headers (cache chaud),
+ * et second appel dans une requête dont l'appelant est déjà résolu.
+ * Chaque appel simule une nouvelle requête HTTP pour que la résolution ne soit pas mémorisée.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SecurityAspectBenchmark {
+
+    private static final String EMAIL = "superviseur@supplychainx.com";
+    private static final String PASSWORD = "password123";
+
+    private SecuredEndpoint directEndpoint;
+    private SecuredEndpoint securedEndpoint;
+    private MockHttpServletRequest bearerRequest;
+    private MockHttpServletRequest headerRequest;
+
+    @Setup
+    public void setUp() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        BCryptPasswordEncoder passwordEncoder = new BCryptPasswordEncoder(4);
+        User user = InMemoryUserRepository.user(1L, EMAIL, PASSWORD, UserRole.SUPERVISEUR_PRODUCTION, passwordEncoder);
+        UserRepository userRepository = InMemoryUserRepository.create(Map.of(EMAIL, user));
+
+        KnownEmailFilter knownEmailFilter = new KnownEmailFilter(userRepository, 0.01, Duration.ofSeconds(5), meterRegistry);
+        knownEmailFilter.rebuild();
+        AuthenticationService authenticationService = new AuthenticationService(userRepository, passwordEncoder,
+                new AuthenticationCache(10_000, Duration.ofMinutes(5), meterRegistry),
+                new LoginAttemptLimiter(5, 20, Duration.ofMinutes(5), 100_000, meterRegistry),
+                knownEmailFilter);
+        TokenService tokenService = new TokenService("benchmark-secret-jmh-32-octets-minimum", Duration.ofHours(8));
+
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+        beanFactory.registerBeanDefinition("securedEndpoint", new RootBeanDefinition(SecuredEndpoint.class));
+        AuthorizationTable authorizationTable = new AuthorizationTable(beanFactory);
+        authorizationTable.afterSingletonsInstantiated();
+
+        directEndpoint = new SecuredEndpoint();
+        AspectJProxyFactory proxyFactory = new AspectJProxyFactory(directEndpoint);
+        proxyFactory.setProxyTargetClass(true);
+        proxyFactory.addAspect(new SecurityAspect(authenticationService, tokenService, authorizationTable, meterRegistry));
+        securedEndpoint = proxyFactory.getProxy();
+
+        bearerRequest = new MockHttpServletRequest();
+        bearerRequest.addHeader(HttpHeaders.AUTHORIZATION, "Bearer " + tokenService.issue(user).token());
+        headerRequest = new MockHttpServletRequest();
+        headerRequest.addHeader("email", EMAIL);
+        headerRequest.addHeader("password", PASSWORD);
+        headerRequest.setRemoteAddr("127.0.0.1");
+
+        authenticationService.authenticate(EMAIL, PASSWORD, "127.0.0.1");
+    }
+
+    @TearDown
+    public void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Benchmark
+    public String directCall() {
+        return inRequest(bearerRequest, directEndpoint);
+    }
+
+    @Benchmark
+    public String bearerToken() {
+        return inRequest(bearerRequest, securedEndpoint);
+    }
+
+    @Benchmark
+    public String headerCredentials() {
+        return inRequest(headerRequest, securedEndpoint);
+    }
+
+    @Benchmark
+    public String callerAlreadyResolved() {
+        ServletRequestAttributes attributes = new ServletRequestAttributes(bearerRequest);
+        RequestContextHolder.setRequestAttributes(attributes);
+        try {
+            securedEndpoint.read();
+            return securedEndpoint.read();
+        } finally {
+            attributes.requestCompleted();
+            bearerRequest.clearAttributes();
+        }
+    }
+
+    private static String inRequest(MockHttpServletRequest request, SecuredEndpoint endpoint) {
+        ServletRequestAttributes attributes = new ServletRequestAttributes(request);
+        RequestContextHolder.setRequestAttributes(attributes);
+        try {
+            return endpoint.read();
+        } finally {
+            // L'appelant résolu est mémorisé dans les attributs de la requête elle-même :
+            // sans ce nettoyage, seul le premier appel traverserait l'authentification.
+            // (Level.Invocation fausserait la mesure à cette échelle de temps.)
+            attributes.requestCompleted();
+            request.clearAttributes();
+        }
+    }
+
+    @RestController
+    public static class SecuredEndpoint {
+
+        @RequiresRole({UserRole.CHEF_PRODUCTION, UserRole.PLANIFICATEUR, UserRole.SUPERVISEUR_PRODUCTION})
+        public String read() {
+            return "ok";
+        }
+    }
+}
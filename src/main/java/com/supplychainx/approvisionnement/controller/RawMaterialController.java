@@ -4,6 +4,8 @@ import com.supplychainx.approvisionnement.dto.RawMaterialCreateDTO;
 import com.supplychainx.approvisionnement.dto.RawMaterialResponseDTO;
 import com.supplychainx.approvisionnement.dto.RawMaterialUpdateDTO;
 import com.supplychainx.approvisionnement.service.RawMaterialService;
+import com.supplychainx.common.dto.CursorPageDTO;
+import com.supplychainx.common.dto.StockAdjustmentDTO;
 import com.supplychainx.common.enums.UserRole;
 import com.supplychainx.security.RequiresRole;
 import io.swagger.v3.oas.annotations.Operation;
@@ -34,13 +36,24 @@ public class RawMaterialController {
 
     @PutMapping("/{id}")
     @RequiresRole(UserRole.GESTIONNAIRE_APPROVISIONNEMENT)
-    @Operation(summary = "Modifier une matière première", description = "Met à jour une matière première existante (US9)")
+    @Operation(summary = "Modifier une matière première", description = "Met à jour une matière première existante (US9) ; la version lue est requise (409 si la matière a changé entre-temps)")
     public ResponseEntity<RawMaterialResponseDTO> updateRawMaterial(
             @PathVariable Long id,
             @Valid @RequestBody RawMaterialUpdateDTO dto) {
         RawMaterialResponseDTO updated = rawMaterialService.updateRawMaterial(id, dto);
         return ResponseEntity.ok(updated);
     }
+
+    @PatchMapping("/{id}/stock")
+    @RequiresRole(UserRole.GESTIONNAIRE_APPROVISIONNEMENT)
+    @Operation(summary = "Ajuster le stock d'une matière première",
+               description = "Ajoute (delta positif) ou retire (delta négatif) une quantité sans écraser les modifications concurrentes")
+    public ResponseEntity<RawMaterialResponseDTO> adjustStock(
+            @PathVariable Long id,
+            @Valid @RequestBody StockAdjustmentDTO dto) {
+        return ResponseEntity.ok(rawMaterialService.adjustStock(id, dto.getDelta()));
+    }
+
     @DeleteMapping("/{id}")
     @RequiresRole(UserRole.GESTIONNAIRE_APPROVISIONNEMENT)
     @Operation(summary = "Supprimer une matière première", 
@@ -59,6 +72,16 @@ public class RawMaterialController {
         return ResponseEntity.ok(materials);
     }
 
+    @GetMapping("/page")
+    @RequiresRole(UserRole.SUPERVISEUR_LOGISTIQUE)
+    @Operation(summary = "Liste paginée des matières premières",
+               description = "Pagination par curseur (après l'identifiant du curseur)")
+    public ResponseEntity<CursorPageDTO<RawMaterialResponseDTO>> getRawMaterialsPage(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(rawMaterialService.getRawMaterialsPage(cursor, limit));
+    }
+
     @GetMapping("/critical")
     @RequiresRole(UserRole.SUPERVISEUR_LOGISTIQUE)
     @Operation(summary = "Matières en stock critique", 
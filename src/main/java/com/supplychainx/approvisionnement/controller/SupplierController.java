@@ -4,6 +4,7 @@ import com.supplychainx.approvisionnement.dto.SupplierCreateDTO;
 import com.supplychainx.approvisionnement.dto.SupplierResponseDTO;
 import com.supplychainx.approvisionnement.dto.SupplierUpdateDTO;
 import com.supplychainx.approvisionnement.service.SupplierService;
+import com.supplychainx.common.dto.CursorPageDTO;
 import com.supplychainx.common.enums.UserRole;
 import com.supplychainx.security.RequiresRole;
 import io.swagger.v3.oas.annotations.Operation;
@@ -88,6 +89,16 @@ public class SupplierController {
         return ResponseEntity.ok(suppliers);
     }
 
+    @GetMapping("/page")
+    @RequiresRole(UserRole.SUPERVISEUR_LOGISTIQUE)
+    @Operation(summary = "Liste paginée des fournisseurs",
+               description = "Pagination par curseur (après l'identifiant du curseur)")
+    public ResponseEntity<CursorPageDTO<SupplierResponseDTO>> getSuppliersPage(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(supplierService.getSuppliersPage(cursor, limit));
+    }
+
     /**
      * US7: Rechercher un fournisseur par nom
      * Accessible au RESPONSABLE_ACHATS
@@ -4,7 +4,9 @@ import com.supplychainx.approvisionnement.dto.SupplyOrderCreateDTO;
 import com.supplychainx.approvisionnement.dto.SupplyOrderResponseDTO;
 import com.supplychainx.approvisionnement.dto.SupplyOrderUpdateDTO;
 import com.supplychainx.approvisionnement.service.SupplyOrderService;
+import com.supplychainx.common.dto.CursorPageDTO;
 import com.supplychainx.common.enums.UserRole;
+import com.supplychainx.common.export.NdjsonExporter;
 import com.supplychainx.security.RequiresRole;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -13,6 +15,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -62,6 +65,27 @@ public class SupplyOrderController {
         return ResponseEntity.ok(orders);
     }
 
+    @GetMapping("/export")
+    @RequiresRole(UserRole.SUPERVISEUR_LOGISTIQUE)
+    @Operation(summary = "Exporter les commandes d'approvisionnement (NDJSON)",
+            description = "Flux d'un objet JSON par ligne, écrit au fil de la lecture, pour les synchronisations complètes")
+    public ResponseEntity<StreamingResponseBody> exportSupplyOrders() {
+        return ResponseEntity.ok()
+                .contentType(NdjsonExporter.APPLICATION_NDJSON)
+                .body(supplyOrderService.exportSupplyOrders());
+    }
+
+    @GetMapping("/page")
+    @RequiresRole(UserRole.SUPERVISEUR_LOGISTIQUE)
+    @Operation(summary = "Liste paginée des commandes d'approvisionnement",
+               description = "Pagination par curseur (après l'identifiant du curseur, filtre de statut optionnel)")
+    public ResponseEntity<CursorPageDTO<SupplyOrderResponseDTO>> getSupplyOrdersPage(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) String status) {
+        return ResponseEntity.ok(supplyOrderService.getSupplyOrdersPage(cursor, limit, status));
+    }
+
     @GetMapping("/status/{status}")
     @RequiresRole(UserRole.SUPERVISEUR_LOGISTIQUE)
     @Operation(summary = "Filtrer les commandes par statut", 
@@ -0,0 +1,20 @@
+package com.supplychainx.approvisionnement.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+/**
+ * Couple (commande d'approvisionnement en cours, matière commandée) lu par projection JPQL,
+ * avec le délai du fournisseur pour dater la réception attendue.
+ */
+@Getter
+@AllArgsConstructor
+public class PendingSupplyRowDTO {
+
+    private final Long idSupplyOrder;
+    private final Long materialId;
+    private final LocalDate orderDate;
+    private final Integer leadTime;
+}
@@ -16,4 +16,5 @@ public class RawMaterialResponseDTO {
     private Integer stockMin;
     private String unit;
     private Boolean isCritical;
+    private Long version;
 }
@@ -22,4 +22,8 @@ public class RawMaterialUpdateDTO {
 
     @NotBlank(message = "L'unité de mesure est obligatoire")
     private String unit;
+
+    // Version lue avec la matière : le stock étant absolu, une écriture intermédiaire serait écrasée
+    @NotNull(message = "La version est obligatoire")
+    private Long version;
 }
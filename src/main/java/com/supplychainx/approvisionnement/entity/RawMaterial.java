@@ -1,22 +1,31 @@
 package com.supplychainx.approvisionnement.entity;
 
+import com.supplychainx.common.entity.CacheRegions;
+import com.supplychainx.common.entity.IdGenerators;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.util.ArrayList;
 import java.util.List;
 
 @Entity
 @Table(name = "raw_materials")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.RAW_MATERIALS)
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 public class RawMaterial {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "raw_materials")
+    @TableGenerator(name = "raw_materials", table = IdGenerators.TABLE,
+            pkColumnName = IdGenerators.NAME_COLUMN, valueColumnName = IdGenerators.VALUE_COLUMN,
+            pkColumnValue = "raw_materials", allocationSize = IdGenerators.ALLOCATION_SIZE)
     private Long idMaterial;
     
     @Column(nullable = false)
@@ -24,6 +33,10 @@ public class RawMaterial {
     
     @Column(nullable = false)
     private Integer stock;
+
+    @Version
+    @Column(nullable = false)
+    private Long version;
     
     @Column(nullable = false)
     private Integer stockMin;
@@ -1,22 +1,31 @@
 package com.supplychainx.approvisionnement.entity;
 
+import com.supplychainx.common.entity.CacheRegions;
+import com.supplychainx.common.entity.IdGenerators;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.util.ArrayList;
 import java.util.List;
 
 @Entity
 @Table(name = "suppliers")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.SUPPLIERS)
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 public class Supplier {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "suppliers")
+    @TableGenerator(name = "suppliers", table = IdGenerators.TABLE,
+            pkColumnName = IdGenerators.NAME_COLUMN, valueColumnName = IdGenerators.VALUE_COLUMN,
+            pkColumnValue = "suppliers", allocationSize = IdGenerators.ALLOCATION_SIZE)
     private Long idSupplier;
     
     @Column(nullable = false)
@@ -1,10 +1,12 @@
 package com.supplychainx.approvisionnement.entity;
 
 import com.supplychainx.approvisionnement.enums.SupplyOrderStatus;
+import com.supplychainx.common.entity.IdGenerators;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.BatchSize;
 
 import java.time.LocalDate;
 import java.util.ArrayList;
@@ -12,20 +14,32 @@ import java.util.List;
 
 @Entity
 @Table(name = "supply_orders")
+@NamedEntityGraph(name = SupplyOrder.WITH_SUPPLIER, attributeNodes = @NamedAttributeNode("supplier"))
+@NamedEntityGraph(name = SupplyOrder.WITH_SUPPLIER_AND_MATERIALS, attributeNodes = {
+        @NamedAttributeNode("supplier"),
+        @NamedAttributeNode("materials")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 public class SupplyOrder {
+
+    public static final String WITH_SUPPLIER = "SupplyOrder.withSupplier";
+    public static final String WITH_SUPPLIER_AND_MATERIALS = "SupplyOrder.withSupplierAndMaterials";
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "supply_orders")
+    @TableGenerator(name = "supply_orders", table = IdGenerators.TABLE,
+            pkColumnName = IdGenerators.NAME_COLUMN, valueColumnName = IdGenerators.VALUE_COLUMN,
+            pkColumnValue = "supply_orders", allocationSize = IdGenerators.ALLOCATION_SIZE)
     private Long idOrder;
     
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "supplier_id", nullable = false)
     private Supplier supplier;
     
     @ManyToMany
+    @BatchSize(size = 100)
     @JoinTable(
         name = "supply_order_materials",
         joinColumns = @JoinColumn(name = "supply_order_id"),
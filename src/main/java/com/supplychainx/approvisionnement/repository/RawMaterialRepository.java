@@ -1,6 +1,7 @@
 package com.supplychainx.approvisionnement.repository;
 
 import com.supplychainx.approvisionnement.entity.RawMaterial;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
@@ -12,4 +13,6 @@ public interface RawMaterialRepository extends JpaRepository<RawMaterial, Long>
     
     @Query("SELECT m FROM RawMaterial m WHERE m.stock < m.stockMin")
     List<RawMaterial> findMaterialsBelowMinStock();
+
+    List<RawMaterial> findByIdMaterialGreaterThanOrderByIdMaterialAsc(Long afterId, Limit limit);
 }
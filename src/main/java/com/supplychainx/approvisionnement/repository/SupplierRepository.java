@@ -1,16 +1,24 @@
 package com.supplychainx.approvisionnement.repository;
 
 import com.supplychainx.approvisionnement.entity.Supplier;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
 
+import static org.hibernate.jpa.HibernateHints.HINT_CACHEABLE;
+
 @Repository
 public interface SupplierRepository extends JpaRepository<Supplier, Long> {
     
+    @QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
     @Query("SELECT s FROM Supplier s WHERE LOWER(s.name) LIKE LOWER(CONCAT('%', :name, '%'))")
     List<Supplier> findByNameContainingIgnoreCase(@Param("name") String name);
+
+    List<Supplier> findByIdSupplierGreaterThanOrderByIdSupplierAsc(Long afterId, Limit limit);
 }
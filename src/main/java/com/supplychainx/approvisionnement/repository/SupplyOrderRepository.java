@@ -1,11 +1,23 @@
 package com.supplychainx.approvisionnement.repository;
 
+import com.supplychainx.approvisionnement.dto.PendingSupplyRowDTO;
 import com.supplychainx.approvisionnement.entity.SupplyOrder;
 import com.supplychainx.approvisionnement.enums.SupplyOrderStatus;
+import com.supplychainx.common.export.NdjsonExporter;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
 
 @Repository
 public interface SupplyOrderRepository extends JpaRepository<SupplyOrder, Long> {
@@ -13,4 +25,32 @@ public interface SupplyOrderRepository extends JpaRepository<SupplyOrder, Long>
     List<SupplyOrder> findByStatus(SupplyOrderStatus status);
     
     long countBySupplier_IdSupplierAndStatusIn(Long supplierId, List<SupplyOrderStatus> statuses);
+
+    // Lectures pour les listes : fournisseur et matières chargés dans la même requête (fetch join)
+    @EntityGraph(SupplyOrder.WITH_SUPPLIER_AND_MATERIALS)
+    @Query("SELECT o FROM SupplyOrder o ORDER BY o.idOrder")
+    List<SupplyOrder> findAllWithDetails();
+
+    @EntityGraph(SupplyOrder.WITH_SUPPLIER_AND_MATERIALS)
+    List<SupplyOrder> findWithDetailsByStatusOrderByIdOrderAsc(SupplyOrderStatus status);
+
+    // Pages bornées : pas de fetch join sur la collection (LIMIT appliqué en mémoire sinon),
+    // les matières sont chargées par lots grâce à @BatchSize sur SupplyOrder.materials
+    @EntityGraph(SupplyOrder.WITH_SUPPLIER)
+    List<SupplyOrder> findByIdOrderGreaterThanOrderByIdOrderAsc(Long afterId, Limit limit);
+
+    @EntityGraph(SupplyOrder.WITH_SUPPLIER)
+    List<SupplyOrder> findByStatusAndIdOrderGreaterThanOrderByIdOrderAsc(SupplyOrderStatus status, Long afterId, Limit limit);
+
+    @EntityGraph(SupplyOrder.WITH_SUPPLIER)
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = NdjsonExporter.FETCH_SIZE))
+    @Query("SELECT s FROM SupplyOrder s ORDER BY s.idOrder")
+    Stream<SupplyOrder> streamAll();
+
+    // Calcul MRP : une ligne par (commande, matière), fournisseur joint pour son délai
+    @Query("SELECT new com.supplychainx.approvisionnement.dto.PendingSupplyRowDTO("
+            + "o.idOrder, m.idMaterial, o.orderDate, s.leadTime) "
+            + "FROM SupplyOrder o JOIN o.supplier s JOIN o.materials m "
+            + "WHERE o.status IN :statuses ORDER BY o.orderDate, o.idOrder")
+    List<PendingSupplyRowDTO> findPendingRowsByStatusIn(@Param("statuses") Collection<SupplyOrderStatus> statuses);
 }
@@ -5,7 +5,11 @@ import com.supplychainx.approvisionnement.dto.RawMaterialResponseDTO;
 import com.supplychainx.approvisionnement.dto.RawMaterialUpdateDTO;
 import com.supplychainx.approvisionnement.entity.RawMaterial;
 import com.supplychainx.approvisionnement.repository.RawMaterialRepository;
+import com.supplychainx.common.dto.CursorPageDTO;
+import com.supplychainx.common.pagination.CursorCodec;
+import com.supplychainx.common.retry.RetryOnOptimisticLock;
 import com.supplychainx.exception.BusinessRuleException;
+import com.supplychainx.exception.ConflictException;
 import com.supplychainx.exception.ResourceNotFoundException;
 import com.supplychainx.mapper.RawMaterialMapper;
 import lombok.RequiredArgsConstructor;
@@ -39,13 +43,35 @@ public class RawMaterialService {
     public RawMaterialResponseDTO updateRawMaterial(Long materialId, RawMaterialUpdateDTO dto) {
         RawMaterial material = rawMaterialRepository.findById(materialId)
                 .orElseThrow(() -> new ResourceNotFoundException("Matière première non trouvée avec l'ID: " + materialId));
+        if (!material.getVersion().equals(dto.getVersion())) {
+            throw new ConflictException("La matière première " + materialId + " a été modifiée depuis sa lecture (version "
+                    + dto.getVersion() + " envoyée, " + material.getVersion() + " actuelle)");
+        }
 
         material.setName(dto.getName());
         material.setStock(dto.getStock());
         material.setStockMin(dto.getStockMin());
         material.setUnit(dto.getUnit());
 
-        material = rawMaterialRepository.save(material);
+        // Flush avant le mapping : la réponse porte la version incrémentée par cette écriture
+        material = rawMaterialRepository.saveAndFlush(material);
+
+        return rawMaterialMapper.toResponseDTO(material);
+    }
+
+    @RetryOnOptimisticLock
+    public RawMaterialResponseDTO adjustStock(Long materialId, int delta) {
+        RawMaterial material = rawMaterialRepository.findById(materialId)
+                .orElseThrow(() -> new ResourceNotFoundException("Matière première non trouvée avec l'ID: " + materialId));
+
+        int newStock = material.getStock() + delta;
+        if (newStock < 0) {
+            throw new BusinessRuleException(
+                    "Stock insuffisant pour la matière " + material.getName() + " : " + material.getStock() + " " + material.getUnit());
+        }
+        material.setStock(newStock);
+
+        material = rawMaterialRepository.saveAndFlush(material);
 
         return rawMaterialMapper.toResponseDTO(material);
     }
@@ -69,6 +95,12 @@ public class RawMaterialService {
                 .collect(Collectors.toList());
     }
 
+    public CursorPageDTO<RawMaterialResponseDTO> getRawMaterialsPage(String cursor, Integer limit) {
+        List<RawMaterial> rows = rawMaterialRepository.findByIdMaterialGreaterThanOrderByIdMaterialAsc(
+                CursorCodec.decode(cursor), CursorCodec.fetchLimit(limit));
+        return CursorCodec.page(rows, limit, RawMaterial::getIdMaterial, rawMaterialMapper::toResponseDTO);
+    }
+
     public List<RawMaterialResponseDTO> getCriticalStockMaterials() {
         return rawMaterialRepository.findMaterialsBelowMinStock().stream()
                 .map(rawMaterialMapper::toResponseDTO)
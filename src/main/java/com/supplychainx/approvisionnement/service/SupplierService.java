@@ -7,6 +7,8 @@ import com.supplychainx.approvisionnement.entity.Supplier;
 import com.supplychainx.approvisionnement.enums.SupplyOrderStatus;
 import com.supplychainx.approvisionnement.repository.SupplierRepository;
 import com.supplychainx.approvisionnement.repository.SupplyOrderRepository;
+import com.supplychainx.common.dto.CursorPageDTO;
+import com.supplychainx.common.pagination.CursorCodec;
 import com.supplychainx.exception.BusinessRuleException;
 import com.supplychainx.exception.ResourceNotFoundException;
 import com.supplychainx.mapper.SupplierMapper;
@@ -81,6 +83,12 @@ public class SupplierService {
                 .collect(Collectors.toList());
     }
 
+    public CursorPageDTO<SupplierResponseDTO> getSuppliersPage(String cursor, Integer limit) {
+        List<Supplier> rows = supplierRepository.findByIdSupplierGreaterThanOrderByIdSupplierAsc(
+                CursorCodec.decode(cursor), CursorCodec.fetchLimit(limit));
+        return CursorCodec.page(rows, limit, Supplier::getIdSupplier, supplierMapper::toResponseDTO);
+    }
+
     public List<SupplierResponseDTO> searchSuppliersByName(String name) {
         return supplierRepository.findByNameContainingIgnoreCase(name).stream()
                 .map(supplierMapper::toResponseDTO)
@@ -8,6 +8,9 @@ import com.supplychainx.approvisionnement.enums.SupplyOrderStatus;
 import com.supplychainx.approvisionnement.repository.RawMaterialRepository;
 import com.supplychainx.approvisionnement.repository.SupplierRepository;
 import com.supplychainx.approvisionnement.repository.SupplyOrderRepository;
+import com.supplychainx.common.dto.CursorPageDTO;
+import com.supplychainx.common.export.NdjsonExporter;
+import com.supplychainx.common.pagination.CursorCodec;
 import com.supplychainx.exception.BusinessRuleException;
 import com.supplychainx.exception.ResourceNotFoundException;
 import com.supplychainx.mapper.RawMaterialMapper;
@@ -16,6 +19,7 @@ import com.supplychainx.mapper.SupplyOrderMapper;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 import java.util.stream.Collectors;
@@ -29,6 +33,7 @@ public class SupplyOrderService {
     private final SupplierRepository supplierRepository;
     private final RawMaterialRepository rawMaterialRepository;
     private final SupplyOrderMapper supplyOrderMapper;
+    private final NdjsonExporter ndjsonExporter;
     private final SupplierMapper supplierMapper;
     private final RawMaterialMapper rawMaterialMapper;
 
@@ -93,16 +98,30 @@ public class SupplyOrderService {
 
     @Transactional(readOnly = true)
     public List<SupplyOrderResponseDTO> getAllSupplyOrders() {
-        return supplyOrderRepository.findAll().stream()
+        return supplyOrderRepository.findAllWithDetails().stream()
                 .map(supplyOrderMapper::toResponseDTO)
                 .collect(Collectors.toList());
     }
 
+    public StreamingResponseBody exportSupplyOrders() {
+        return ndjsonExporter.export(supplyOrderRepository::streamAll, supplyOrderMapper::toResponseDTO);
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPageDTO<SupplyOrderResponseDTO> getSupplyOrdersPage(String cursor, Integer limit, String status) {
+        Long afterId = CursorCodec.decode(cursor);
+        List<SupplyOrder> rows = status == null
+                ? supplyOrderRepository.findByIdOrderGreaterThanOrderByIdOrderAsc(afterId, CursorCodec.fetchLimit(limit))
+                : supplyOrderRepository.findByStatusAndIdOrderGreaterThanOrderByIdOrderAsc(
+                        SupplyOrderStatus.valueOf(status), afterId, CursorCodec.fetchLimit(limit));
+        return CursorCodec.page(rows, limit, SupplyOrder::getIdOrder, supplyOrderMapper::toResponseDTO);
+    }
+
     @Transactional(readOnly = true)
     public List<SupplyOrderResponseDTO> getSupplyOrdersByStatus(String status) {
         SupplyOrderStatus orderStatus = SupplyOrderStatus.valueOf(status);
         
-        return supplyOrderRepository.findByStatus(orderStatus).stream()
+        return supplyOrderRepository.findWithDetailsByStatusOrderByIdOrderAsc(orderStatus).stream()
                 .map(supplyOrderMapper::toResponseDTO)
                 .collect(Collectors.toList());
     }
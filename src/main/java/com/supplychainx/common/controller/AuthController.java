@@ -0,0 +1,42 @@
+package com.supplychainx.common.controller;
+
+import com.supplychainx.common.dto.LoginRequestDTO;
+import com.supplychainx.common.dto.LoginResponseDTO;
+import com.supplychainx.common.entity.User;
+import com.supplychainx.security.AuthenticationService;
+import com.supplychainx.security.TokenService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+
+@RestController
+@RequestMapping("/api/auth")
+@RequiredArgsConstructor
+@Tag(name = "Authentification", description = "Connexion et émission des jetons d'accès")
+public class AuthController {
+
+    private final AuthenticationService authenticationService;
+    private final TokenService tokenService;
+
+    @PostMapping("/login")
+    @Operation(summary = "Se connecter", description = "Vérifie le mot de passe une seule fois et retourne un jeton signé à envoyer dans le header Authorization: Bearer")
+    public ResponseEntity<LoginResponseDTO> login(@Valid @RequestBody LoginRequestDTO dto, HttpServletRequest request) {
+        User user = authenticationService.authenticate(dto.getEmail(), dto.getPassword(), request.getRemoteAddr());
+        TokenService.IssuedToken issued = tokenService.issue(user);
+        return ResponseEntity.ok(new LoginResponseDTO(
+                issued.token(),
+                "Bearer",
+                issued.expiresAt(),
+                user.getIdUser(),
+                user.getRole().name()
+        ));
+    }
+}
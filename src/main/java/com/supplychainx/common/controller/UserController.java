@@ -1,9 +1,12 @@
 package com.supplychainx.common.controller;
 
 import com.supplychainx.common.dto.UpdateRoleDTO;
+import com.supplychainx.common.dto.UserBulkCreateDTO;
+import com.supplychainx.common.dto.UserBulkCreateResponseDTO;
 import com.supplychainx.common.dto.UserCreateDTO;
 import com.supplychainx.common.dto.UserResponseDTO;
 import com.supplychainx.common.enums.UserRole;
+import com.supplychainx.common.service.UserProvisioningService;
 import com.supplychainx.common.service.UserService;
 import com.supplychainx.security.RequiresRole;
 import io.swagger.v3.oas.annotations.Operation;
@@ -22,6 +25,7 @@ import org.springframework.web.bind.annotation.*;
 public class UserController {
 
     private final UserService userService;
+    private final UserProvisioningService userProvisioningService;
 
 
     @PostMapping
@@ -32,6 +36,14 @@ public class UserController {
         return new ResponseEntity<>(user, HttpStatus.CREATED);
     }
 
+    @PostMapping("/bulk")
+    @RequiresRole(UserRole.ADMIN)
+    @Operation(summary = "Créer des utilisateurs en masse", description = "Crée jusqu'à 1000 comptes en une requête et renvoie le résultat ligne par ligne")
+    public ResponseEntity<UserBulkCreateResponseDTO> createUsers(@Valid @RequestBody UserBulkCreateDTO dto) {
+        UserBulkCreateResponseDTO report = userProvisioningService.createUsers(dto.getUsers());
+        return ResponseEntity.ok(report);
+    }
+
     @PutMapping("/{userId}/role")
     @RequiresRole(UserRole.ADMIN)
     @Operation(summary = "Modifier le rôle d'un utilisateur", description = "Permet à un admin de modifier le rôle d'un utilisateur existant")
@@ -0,0 +1,95 @@
+package com.supplychainx.common.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.orm.jpa.EntityManagerHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * Oriente les transactions {@code readOnly} vers le réplica et tout le reste vers le primaire.
+ * Doit être enveloppée dans un {@code LazyConnectionDataSourceProxy} : la connexion physique
+ * n'est demandée qu'à la première requête SQL, une fois l'indicateur readOnly positionné.
+ * Une session Hibernate routée vers le réplica lit le cache de second niveau sans l'alimenter :
+ * une ligne en retard ne doit pas y être servie aux lectures suivantes, primaire compris.
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    public enum Route {
+        PRIMARY, REPLICA
+    }
+
+    private final ReplicaStickiness stickiness;
+    private final Counter primaryConnections;
+    private final Counter replicaConnections;
+
+    public ReadWriteRoutingDataSource(DataSource primary, DataSource replica,
+                                      ReplicaStickiness stickiness, MeterRegistry meterRegistry) {
+        this.stickiness = stickiness;
+        setTargetDataSources(Map.<Object, Object>of(Route.PRIMARY, primary, Route.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+        this.primaryConnections = routedConnections(meterRegistry, "primary");
+        this.replicaConnections = routedConnections(meterRegistry, "replica");
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        Route route = route();
+        (route == Route.REPLICA ? replicaConnections : primaryConnections).increment();
+        if (route == Route.REPLICA) {
+            keepOutOfSharedCache();
+        }
+        return route;
+    }
+
+    // Le mode d'origine est rétabli en fin de transaction : avec open-in-view, la même
+    // session peut servir ensuite une transaction d'écriture sur le primaire
+    private static void keepOutOfSharedCache() {
+        for (Object resource : TransactionSynchronizationManager.getResourceMap().values()) {
+            if (!(resource instanceof EntityManagerHolder holder)) {
+                continue;
+            }
+            Session session = holder.getEntityManager().unwrap(Session.class);
+            CacheMode previous = session.getCacheMode();
+            if (previous == CacheMode.GET || previous == CacheMode.IGNORE) {
+                continue;
+            }
+            session.setCacheMode(CacheMode.GET);
+            if (TransactionSynchronizationManager.isSynchronizationActive()) {
+                TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                    @Override
+                    public void afterCompletion(int status) {
+                        if (session.isOpen()) {
+                            session.setCacheMode(previous);
+                        }
+                    }
+                });
+            }
+        }
+    }
+
+    private Route route() {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            return Route.PRIMARY;
+        }
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            stickiness.recordWrite();
+            return Route.PRIMARY;
+        }
+        return stickiness.isSticky() ? Route.PRIMARY : Route.REPLICA;
+    }
+
+    private static Counter routedConnections(MeterRegistry meterRegistry, String target) {
+        return Counter.builder("datasource.routing.connections")
+                .description("Connexions physiques obtenues par cible de routage")
+                .tag("target", target)
+                .register(meterRegistry);
+    }
+}
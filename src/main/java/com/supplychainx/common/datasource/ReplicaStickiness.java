@@ -0,0 +1,67 @@
+package com.supplychainx.common.datasource;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.supplychainx.security.AuthenticatedUser;
+import com.supplychainx.security.CallerContext;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * Lecture de ses propres écritures : après une transaction d'écriture, les lectures de la même
+ * requête HTTP, puis celles du même utilisateur pendant la fenêtre configurée, restent sur le
+ * primaire au lieu d'un réplica potentiellement en retard. La fenêtre part du commit.
+ */
+public class ReplicaStickiness {
+
+    static final String WRITE_ATTRIBUTE = ReplicaStickiness.class.getName() + ".WRITE";
+
+    private final Cache<Long, Boolean> recentWriters;
+    private final Supplier<Optional<Long>> callerId;
+
+    public ReplicaStickiness(Duration window) {
+        this(window, Ticker.systemTicker(), () -> CallerContext.current().map(AuthenticatedUser::getIdUser));
+    }
+
+    ReplicaStickiness(Duration window, Ticker ticker, Supplier<Optional<Long>> callerId) {
+        this.recentWriters = Caffeine.newBuilder()
+                .maximumSize(100_000)
+                .expireAfterWrite(window)
+                .ticker(ticker)
+                .build();
+        this.callerId = callerId;
+    }
+
+    public void recordWrite() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes != null) {
+            attributes.setAttribute(WRITE_ATTRIBUTE, Boolean.TRUE, RequestAttributes.SCOPE_REQUEST);
+        }
+        callerId.get().ifPresent(id -> {
+            recentWriters.put(id, Boolean.TRUE);
+            if (TransactionSynchronizationManager.isSynchronizationActive()) {
+                TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        recentWriters.put(id, Boolean.TRUE);
+                    }
+                });
+            }
+        });
+    }
+
+    public boolean isSticky() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes != null && attributes.getAttribute(WRITE_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST) != null) {
+            return true;
+        }
+        return callerId.get().map(id -> recentWriters.getIfPresent(id) != null).orElse(false);
+    }
+}
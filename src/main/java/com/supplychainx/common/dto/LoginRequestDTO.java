@@ -0,0 +1,21 @@
+package com.supplychainx.common.dto;
+
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.NotBlank;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class LoginRequestDTO {
+
+    @NotBlank(message = "L'email est requis")
+    @Email(message = "L'email doit être valide")
+    private String email;
+
+    @NotBlank(message = "Le mot de passe est requis")
+    private String password;
+}
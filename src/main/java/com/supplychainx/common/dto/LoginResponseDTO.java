@@ -0,0 +1,20 @@
+package com.supplychainx.common.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class LoginResponseDTO {
+
+    private String token;
+    private String tokenType;
+    private Instant expiresAt;
+    private Long idUser;
+    private String role;
+}
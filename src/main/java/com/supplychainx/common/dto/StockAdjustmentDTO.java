@@ -0,0 +1,16 @@
+package com.supplychainx.common.dto;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class StockAdjustmentDTO {
+
+    @NotNull(message = "La variation de stock est obligatoire")
+    private Integer delta;
+}
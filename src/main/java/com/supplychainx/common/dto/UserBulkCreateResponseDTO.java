@@ -0,0 +1,18 @@
+package com.supplychainx.common.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserBulkCreateResponseDTO {
+
+    private int created;
+    private int rejected;
+    private List<UserBulkRowResultDTO> results;
+}
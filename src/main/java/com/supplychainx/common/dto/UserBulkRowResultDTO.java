@@ -0,0 +1,19 @@
+package com.supplychainx.common.dto;
+
+import com.supplychainx.common.enums.ProvisioningStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserBulkRowResultDTO {
+
+    private int index;
+    private String email;
+    private ProvisioningStatus status;
+    private Long idUser;
+    private String message;
+}
@@ -0,0 +1,15 @@
+package com.supplychainx.common.entity;
+
+/**
+ * Régions du cache de second niveau Hibernate. Chacune est créée avec sa propre taille
+ * et sa propre durée de vie dans {@code SecondLevelCacheConfig}.
+ */
+public final class CacheRegions {
+
+    public static final String PRODUCTS = "products";
+    public static final String RAW_MATERIALS = "raw_materials";
+    public static final String SUPPLIERS = "suppliers";
+
+    private CacheRegions() {
+    }
+}
@@ -0,0 +1,18 @@
+package com.supplychainx.common.entity;
+
+/**
+ * Générateur d'identifiants par table partagé par les entités métier (MySQL n'a pas de séquences).
+ * Chaque entité réserve des blocs de {@link #ALLOCATION_SIZE} identifiants (optimiseur « pooled »),
+ * ce qui laisse Hibernate regrouper les INSERT en lots JDBC, impossible avec IDENTITY.
+ * La valeur stockée est la borne haute du dernier bloc réservé.
+ */
+public final class IdGenerators {
+
+    public static final String TABLE = "id_generators";
+    public static final String NAME_COLUMN = "gen_name";
+    public static final String VALUE_COLUMN = "gen_value";
+    public static final int ALLOCATION_SIZE = 50;
+
+    private IdGenerators() {
+    }
+}
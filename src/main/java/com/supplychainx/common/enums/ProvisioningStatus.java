@@ -0,0 +1,6 @@
+package com.supplychainx.common.enums;
+
+public enum ProvisioningStatus {
+    CREE,
+    REJETE
+}
@@ -0,0 +1,75 @@
+package com.supplychainx.common.export;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import jakarta.persistence.EntityManager;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * Export NDJSON (un objet JSON par ligne) écrit au fil de la lecture d'un Stream JPA.
+ * Le corps est produit hors du thread de la requête : la lecture se fait dans sa propre
+ * transaction en lecture seule, et le contexte de persistance est vidé toutes les
+ * {@code clearInterval} lignes pour que la mémoire reste constante quelle que soit la table.
+ */
+@Component
+public class NdjsonExporter {
+
+    public static final MediaType APPLICATION_NDJSON = MediaType.parseMediaType("application/x-ndjson");
+
+    /** Taille de fetch JDBC des requêtes d'export (constante pour les @QueryHint). */
+    public static final String FETCH_SIZE = "500";
+
+    private static final byte NEWLINE = '\n';
+
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectWriter writer;
+    private final int clearInterval;
+
+    public NdjsonExporter(EntityManager entityManager,
+                          PlatformTransactionManager transactionManager,
+                          ObjectMapper objectMapper,
+                          @Value("${export.ndjson.clear-interval:500}") int clearInterval) {
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.writer = objectMapper.writer();
+        this.clearInterval = clearInterval;
+    }
+
+    public <E, T> StreamingResponseBody export(Supplier<Stream<E>> query, Function<E, T> mapper) {
+        return outputStream -> transactionTemplate.executeWithoutResult(status -> {
+            try (Stream<E> rows = query.get()) {
+                write(rows.iterator(), mapper, outputStream);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    private <E, T> void write(Iterator<E> rows, Function<E, T> mapper, OutputStream outputStream) throws IOException {
+        int count = 0;
+        while (rows.hasNext()) {
+            outputStream.write(writer.writeValueAsBytes(mapper.apply(rows.next())));
+            outputStream.write(NEWLINE);
+            if (++count % clearInterval == 0) {
+                entityManager.clear();
+                outputStream.flush();
+            }
+        }
+        outputStream.flush();
+    }
+}
@@ -0,0 +1,70 @@
+package com.supplychainx.common.pagination;
+
+import com.supplychainx.common.dto.CursorPageDTO;
+import com.supplychainx.exception.BusinessRuleException;
+import org.springframework.data.domain.Limit;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Pagination par clé (keyset) : le curseur opaque encode le dernier identifiant renvoyé,
+ * la page suivante est lue avec "id > curseur ORDER BY id LIMIT n" sans OFFSET.
+ * On lit une ligne de plus que demandé pour savoir s'il reste des résultats.
+ */
+public final class CursorCodec {
+
+    public static final int DEFAULT_LIMIT = 50;
+    public static final int MAX_LIMIT = 500;
+
+    private static final String PREFIX = "id:";
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private CursorCodec() {
+    }
+
+    public static Long decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return 0L;
+        }
+        try {
+            String value = new String(DECODER.decode(cursor), StandardCharsets.UTF_8);
+            if (!value.startsWith(PREFIX)) {
+                throw new BusinessRuleException("Curseur de pagination invalide");
+            }
+            return Long.parseLong(value.substring(PREFIX.length()));
+        } catch (IllegalArgumentException e) {
+            throw new BusinessRuleException("Curseur de pagination invalide");
+        }
+    }
+
+    public static String encode(Long lastId) {
+        return ENCODER.encodeToString((PREFIX + lastId).getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static Limit fetchLimit(Integer limit) {
+        return Limit.of(pageSize(limit) + 1);
+    }
+
+    public static <E, T> CursorPageDTO<T> page(List<E> rows, Integer limit,
+                                               Function<E, Long> idOf, Function<E, T> mapper) {
+        int pageSize = pageSize(limit);
+        boolean hasMore = rows.size() > pageSize;
+        List<E> pageRows = hasMore ? rows.subList(0, pageSize) : rows;
+        String nextCursor = hasMore ? encode(idOf.apply(pageRows.get(pageRows.size() - 1))) : null;
+        return new CursorPageDTO<>(pageRows.stream().map(mapper).toList(), nextCursor, hasMore);
+    }
+
+    private static int pageSize(Integer limit) {
+        if (limit == null) {
+            return DEFAULT_LIMIT;
+        }
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new BusinessRuleException("La taille de page doit être comprise entre 1 et " + MAX_LIMIT);
+        }
+        return limit;
+    }
+}
@@ -2,12 +2,27 @@ package com.supplychainx.common.repository;
 
 import com.supplychainx.common.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
     
     Optional<User> findByEmail(String email);
+
+    @Query("SELECT u.email FROM User u")
+    List<String> findAllEmails();
+
+    @Query("SELECT MAX(u.idUser) FROM User u")
+    Long findMaxIdUser();
+
+    @Query("SELECT u.email FROM User u WHERE u.idUser > :idUser")
+    List<String> findEmailsByIdUserGreaterThan(Long idUser);
+
+    @Query("SELECT u.email FROM User u WHERE u.email IN :emails")
+    List<String> findEmailsIn(Collection<String> emails);
 }
@@ -0,0 +1,79 @@
+package com.supplychainx.common.retry;
+
+import com.supplychainx.exception.ConflictException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.OptimisticLockException;
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Rejoue les méthodes {@link RetryOnOptimisticLock} après un conflit de version, avec une attente
+ * exponentielle et une part aléatoire. L'aspect s'exécute avant l'intercepteur transactionnel
+ * (ordre plus prioritaire) : chaque tentative ouvre une nouvelle transaction et relit l'entité.
+ * Une fois les tentatives épuisées, l'appelant reçoit un 409.
+ */
+@Aspect
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE - 1)
+@Slf4j
+public class OptimisticLockRetryAspect {
+
+    private final MeterRegistry meterRegistry;
+
+    public OptimisticLockRetryAspect(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Around(value = "@annotation(retry)", argNames = "joinPoint,retry")
+    public Object retry(ProceedingJoinPoint joinPoint, RetryOnOptimisticLock retry) throws Throwable {
+        String operation = joinPoint.getSignature().getDeclaringType().getSimpleName()
+                + "." + joinPoint.getSignature().getName();
+        counter("optimistic_lock.invocations", "Appels des opérations rejouables", operation).increment();
+
+        long backoffMillis = retry.initialBackoffMillis();
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return joinPoint.proceed();
+            } catch (OptimisticLockingFailureException | OptimisticLockException e) {
+                counter("optimistic_lock.conflicts", "Conflits de version détectés", operation).increment();
+                if (attempt >= retry.maxAttempts()) {
+                    counter("optimistic_lock.exhausted", "Opérations abandonnées après épuisement des tentatives", operation).increment();
+                    throw new ConflictException(
+                            "Modification concurrente détectée, veuillez réessayer (" + operation + ")");
+                }
+                log.debug("Conflit de version sur {} (tentative {}/{})", operation, attempt, retry.maxAttempts());
+                sleep(backoffMillis);
+                backoffMillis *= 2;
+            }
+        }
+    }
+
+    private Counter counter(String name, String description, String operation) {
+        return Counter.builder(name)
+                .description(description)
+                .tag("operation", operation)
+                .register(meterRegistry);
+    }
+
+    private static void sleep(long backoffMillis) {
+        if (backoffMillis <= 0) {
+            return;
+        }
+        long jittered = backoffMillis / 2 + ThreadLocalRandom.current().nextLong(backoffMillis + 1);
+        try {
+            Thread.sleep(jittered);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ConflictException("Rejeu interrompu après un conflit de version");
+        }
+    }
+}
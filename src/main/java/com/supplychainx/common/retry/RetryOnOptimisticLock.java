@@ -0,0 +1,22 @@
+package com.supplychainx.common.retry;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Rejoue la méthode transactionnelle annotée lorsqu'un conflit de version (@Version) survient.
+ * À réserver aux opérations qui relisent l'état avant d'écrire (ajustements relatifs du stock) :
+ * rejouer une écriture absolue écraserait la modification concurrente.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface RetryOnOptimisticLock {
+
+    /** Nombre maximal d'exécutions, première tentative comprise. */
+    int maxAttempts() default 4;
+
+    /** Attente avant la deuxième tentative, doublée ensuite à chaque conflit. */
+    long initialBackoffMillis() default 20;
+}
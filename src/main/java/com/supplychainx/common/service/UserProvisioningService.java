@@ -0,0 +1,172 @@
+package com.supplychainx.common.service;
+
+import com.supplychainx.common.dto.UserBulkCreateResponseDTO;
+import com.supplychainx.common.dto.UserBulkRowResultDTO;
+import com.supplychainx.common.dto.UserCreateDTO;
+import com.supplychainx.common.enums.ProvisioningStatus;
+import com.supplychainx.common.repository.UserRepository;
+import com.supplychainx.security.KnownEmailFilter;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Création d'utilisateurs en masse : un seul contrôle d'unicité (requête IN),
+ * hachage des mots de passe en parallèle sur un pool borné, puis insertion par lots JDBC
+ * dans une transaction courte ouverte seulement après le hachage.
+ */
+@Service
+public class UserProvisioningService implements DisposableBean {
+
+    private static final String INSERT_USER =
+            "INSERT INTO users (first_name, last_name, email, password, role) VALUES (?, ?, ?, ?, ?)";
+    private static final int MAX_QUEUED_HASHES = 1000;
+
+    private final UserRepository userRepository;
+    private final PasswordEncoder passwordEncoder;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final KnownEmailFilter knownEmailFilter;
+    private final int batchSize;
+    private final ThreadPoolExecutor hashingExecutor;
+
+    public UserProvisioningService(UserRepository userRepository,
+                                   PasswordEncoder passwordEncoder,
+                                   JdbcTemplate jdbcTemplate,
+                                   PlatformTransactionManager transactionManager,
+                                   KnownEmailFilter knownEmailFilter,
+                                   @Value("${users.provisioning.hash-threads:0}") int hashThreads,
+                                   @Value("${users.provisioning.batch-size:100}") int batchSize) {
+        this.userRepository = userRepository;
+        this.passwordEncoder = passwordEncoder;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.knownEmailFilter = knownEmailFilter;
+        this.batchSize = batchSize;
+        // Par défaut la moitié des cœurs : les vérifications de connexion gardent de la marge
+        int threads = hashThreads > 0 ? hashThreads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        this.hashingExecutor = new ThreadPoolExecutor(
+                threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(MAX_QUEUED_HASHES),
+                threadFactory(),
+                new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    public UserBulkCreateResponseDTO createUsers(List<UserCreateDTO> users) {
+        UserBulkRowResultDTO[] results = new UserBulkRowResultDTO[users.size()];
+
+        Set<String> existingEmails = new HashSet<>();
+        for (String email : userRepository.findEmailsIn(users.stream().map(UserCreateDTO::getEmail).distinct().toList())) {
+            existingEmails.add(normalize(email));
+        }
+
+        Set<String> seenEmails = new HashSet<>();
+        List<Integer> accepted = new ArrayList<>();
+        for (int i = 0; i < users.size(); i++) {
+            String email = users.get(i).getEmail();
+            if (existingEmails.contains(normalize(email))) {
+                results[i] = rejected(i, email, "Un utilisateur avec cet email existe déjà");
+            } else if (!seenEmails.add(normalize(email))) {
+                results[i] = rejected(i, email, "Email présent plusieurs fois dans l'import");
+            } else {
+                accepted.add(i);
+            }
+        }
+
+        if (!accepted.isEmpty()) {
+            List<String> hashedPasswords = hashPasswords(accepted.stream().map(i -> users.get(i).getPassword()).toList());
+            List<Long> ids = transactionTemplate.execute(status -> insert(accepted, users, hashedPasswords));
+            for (int j = 0; j < accepted.size(); j++) {
+                int index = accepted.get(j);
+                String email = users.get(index).getEmail();
+                knownEmailFilter.add(email);
+                results[index] = new UserBulkRowResultDTO(index, email, ProvisioningStatus.CREE, ids.get(j), null);
+            }
+        }
+
+        return new UserBulkCreateResponseDTO(accepted.size(), users.size() - accepted.size(), Arrays.asList(results));
+    }
+
+    @Override
+    public void destroy() {
+        hashingExecutor.shutdownNow();
+    }
+
+    private List<String> hashPasswords(List<String> passwords) {
+        List<CompletableFuture<String>> hashes = passwords.stream()
+                .map(password -> CompletableFuture.supplyAsync(() -> passwordEncoder.encode(password), hashingExecutor))
+                .toList();
+        return hashes.stream().map(CompletableFuture::join).toList();
+    }
+
+    private List<Long> insert(List<Integer> accepted, List<UserCreateDTO> users, List<String> hashedPasswords) {
+        List<Long> ids = new ArrayList<>(accepted.size());
+        for (int start = 0; start < accepted.size(); start += batchSize) {
+            int from = start;
+            int to = Math.min(start + batchSize, accepted.size());
+            GeneratedKeyHolder keyHolder = new GeneratedKeyHolder();
+            jdbcTemplate.batchUpdate(
+                    connection -> connection.prepareStatement(INSERT_USER, new String[]{"id_user"}),
+                    new BatchPreparedStatementSetter() {
+                        @Override
+                        public void setValues(PreparedStatement ps, int i) throws SQLException {
+                            UserCreateDTO dto = users.get(accepted.get(from + i));
+                            ps.setString(1, dto.getFirstName());
+                            ps.setString(2, dto.getLastName());
+                            ps.setString(3, dto.getEmail());
+                            ps.setString(4, hashedPasswords.get(from + i));
+                            ps.setString(5, dto.getRole().name());
+                        }
+
+                        @Override
+                        public int getBatchSize() {
+                            return to - from;
+                        }
+                    },
+                    keyHolder);
+            for (Map<String, Object> keys : keyHolder.getKeyList()) {
+                ids.add(((Number) keys.values().iterator().next()).longValue());
+            }
+        }
+        return ids;
+    }
+
+    private static UserBulkRowResultDTO rejected(int index, String email, String message) {
+        return new UserBulkRowResultDTO(index, email, ProvisioningStatus.REJETE, null, message);
+    }
+
+    private static String normalize(String email) {
+        return email.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static ThreadFactory threadFactory() {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "password-hasher-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -8,6 +8,8 @@ import com.supplychainx.common.repository.UserRepository;
 import com.supplychainx.exception.BusinessRuleException;
 import com.supplychainx.exception.ResourceNotFoundException;
 import com.supplychainx.mapper.UserMapper;
+import com.supplychainx.security.AuthenticationCache;
+import com.supplychainx.security.KnownEmailFilter;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
@@ -21,6 +23,8 @@ public class UserService {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final UserMapper userMapper;
+    private final AuthenticationCache authenticationCache;
+    private final KnownEmailFilter knownEmailFilter;
 
     public UserResponseDTO createUser(UserCreateDTO dto) {
         if (userRepository.findByEmail(dto.getEmail()).isPresent()) {
@@ -35,6 +39,7 @@ public class UserService {
         user.setRole(dto.getRole());
 
         user = userRepository.save(user);
+        knownEmailFilter.add(dto.getEmail());
 
         return userMapper.toResponseDTO(user);
     }
@@ -46,6 +51,7 @@ public class UserService {
         user.setRole(dto.getRole());
 
         user = userRepository.save(user);
+        authenticationCache.evictAfterCommit(user.getEmail());
 
         return userMapper.toResponseDTO(user);
     }
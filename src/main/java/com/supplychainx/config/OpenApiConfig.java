@@ -40,9 +40,9 @@ public class OpenApiConfig {
                     "- 🟡 **Livraison** : Gestion des clients, commandes clients et livraisons\n" +
                     "- 🟣 **Utilisateurs** : Gestion des utilisateurs et des rôles\n\n" +
                     "**Sécurité :**\n" +
-                    "Les endpoints nécessitent les headers suivants :\n" +
-                    "- `X-User-Email` : Email de l'utilisateur\n" +
-                    "- `X-User-Password` : Mot de passe de l'utilisateur\n\n" +
+                    "Obtenir un jeton via `POST /api/auth/login`, puis l'envoyer dans le header :\n" +
+                    "- `Authorization` : `Bearer <jeton>`\n\n" +
+                    "Les headers `email` / `password` restent acceptés en alternative.\n\n" +
                     "**Compte admin par défaut :**\n" +
                     "- Email: `admin@supplychainx.com`\n" +
                     "- Password: `admin123`"
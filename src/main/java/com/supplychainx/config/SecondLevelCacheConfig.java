@@ -0,0 +1,68 @@
+package com.supplychainx.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import com.supplychainx.common.entity.CacheRegions;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.spi.RegionFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import javax.cache.spi.CachingProvider;
+import java.net.URI;
+import java.time.Duration;
+import java.util.OptionalLong;
+import java.util.UUID;
+
+/**
+ * Cache de second niveau Hibernate pour les données de référence (produits, matières premières,
+ * fournisseurs) et pour les recherches par nom. Les régions sont créées ici, chacune bornée en
+ * taille et en durée de vie, puis le gestionnaire JCache est transmis à Hibernate.
+ * Les entités sont en READ_WRITE : une mise à jour du stock invalide l'entrée avant le commit.
+ */
+@Configuration
+public class SecondLevelCacheConfig {
+
+    @Bean(destroyMethod = "close")
+    public CacheManager secondLevelCacheManager(
+            @Value("${jpa.cache.products.maximum-size:5000}") long productsSize,
+            @Value("${jpa.cache.products.ttl:30m}") Duration productsTtl,
+            @Value("${jpa.cache.raw-materials.maximum-size:5000}") long rawMaterialsSize,
+            @Value("${jpa.cache.raw-materials.ttl:30m}") Duration rawMaterialsTtl,
+            @Value("${jpa.cache.suppliers.maximum-size:2000}") long suppliersSize,
+            @Value("${jpa.cache.suppliers.ttl:1h}") Duration suppliersTtl,
+            @Value("${jpa.cache.queries.maximum-size:1000}") long queriesSize,
+            @Value("${jpa.cache.queries.ttl:10m}") Duration queriesTtl) {
+        CachingProvider provider = Caching.getCachingProvider(CaffeineCachingProvider.class.getName());
+        // URI propre à chaque contexte : deux contextes Spring ne partagent pas leurs régions
+        CacheManager cacheManager = provider.getCacheManager(
+                URI.create("supplychainx:second-level-cache:" + UUID.randomUUID()),
+                SecondLevelCacheConfig.class.getClassLoader());
+
+        createRegion(cacheManager, CacheRegions.PRODUCTS, productsSize, productsTtl);
+        createRegion(cacheManager, CacheRegions.RAW_MATERIALS, rawMaterialsSize, rawMaterialsTtl);
+        createRegion(cacheManager, CacheRegions.SUPPLIERS, suppliersSize, suppliersTtl);
+        createRegion(cacheManager, RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME, queriesSize, queriesTtl);
+        // Horodatages des tables : ni éviction ni expiration, sinon des résultats périmés seraient servis
+        cacheManager.createCache(RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME,
+                new CaffeineConfiguration<>());
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(CacheManager secondLevelCacheManager) {
+        return properties -> properties.put(ConfigSettings.CACHE_MANAGER, secondLevelCacheManager);
+    }
+
+    private static void createRegion(CacheManager cacheManager, String region, long maximumSize, Duration ttl) {
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        configuration.setMaximumSize(OptionalLong.of(maximumSize));
+        configuration.setExpireAfterWrite(OptionalLong.of(ttl.toNanos()));
+        configuration.setStatisticsEnabled(true);
+        cacheManager.createCache(region, configuration);
+    }
+}
@@ -1,18 +1,51 @@
 package com.supplychainx.config;
 
+import com.supplychainx.security.BCryptStrengthCalibrator;
+import com.supplychainx.security.BoundedPasswordEncoder;
+import com.supplychainx.security.CalibratedBCryptPasswordEncoder;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Profile;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+import java.time.Duration;
 
+
+@Slf4j
 @Configuration
 @Profile("!test")
 public class SecurityConfig {
 
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(
+            @Value("${security.password-pool.threads:0}") int threads,
+            @Value("${security.password-pool.queue-capacity:64}") int queueCapacity,
+            @Value("${security.password-pool.wait-timeout:5s}") Duration waitTimeout,
+            @Value("${security.password-pool.retry-after:2s}") Duration retryAfter,
+            @Value("${security.bcrypt.strength:0}") int fixedStrength,
+            @Value("${security.bcrypt.target-latency:100ms}") Duration targetLatency,
+            @Value("${security.bcrypt.min-strength:8}") int minStrength,
+            @Value("${security.bcrypt.max-strength:14}") int maxStrength,
+            MeterRegistry meterRegistry) {
+        int strength;
+        if (fixedStrength > 0) {
+            strength = fixedStrength;
+            log.info("Coût BCrypt configuré : {}", strength);
+        } else {
+            strength = BCryptStrengthCalibrator.calibrate(targetLatency, minStrength, maxStrength);
+            log.info("Coût BCrypt calibré sur {} : {} (fixer security.bcrypt.strength pour l'imposer à tous les nœuds)",
+                    targetLatency, strength);
+        }
+        Gauge.builder("security.bcrypt.strength", () -> strength)
+                .description("Coût BCrypt utilisé pour les nouveaux hash")
+                .register(meterRegistry);
+
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        return new BoundedPasswordEncoder(new CalibratedBCryptPasswordEncoder(strength),
+                poolSize, queueCapacity, waitTimeout, retryAfter, meterRegistry);
     }
 }
@@ -1,6 +1,7 @@
 package com.supplychainx.livraison.controller;
 
 import com.supplychainx.common.enums.UserRole;
+import com.supplychainx.common.export.NdjsonExporter;
 import com.supplychainx.livraison.dto.DeliveryRequestDTO;
 import com.supplychainx.livraison.dto.DeliveryResponseDTO;
 import com.supplychainx.livraison.service.DeliveryService;
@@ -12,6 +13,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 import java.util.Map;
@@ -51,6 +53,16 @@ public class DeliveryController {
         List<DeliveryResponseDTO> deliveries = deliveryService.getDeliveriesByStatus(status);
         return ResponseEntity.ok(deliveries);
     }
+
+    @GetMapping("/export")
+    @RequiresRole(UserRole.RESPONSABLE_LOGISTIQUE)
+    @Operation(summary = "Exporter les livraisons (NDJSON)",
+            description = "Flux d'un objet JSON par ligne, écrit au fil de la lecture, pour les synchronisations complètes")
+    public ResponseEntity<StreamingResponseBody> exportDeliveries() {
+        return ResponseEntity.ok()
+                .contentType(NdjsonExporter.APPLICATION_NDJSON)
+                .body(deliveryService.exportDeliveries());
+    }
     
     @PutMapping("/{id}/status")
     @RequiresRole(UserRole.RESPONSABLE_LOGISTIQUE)
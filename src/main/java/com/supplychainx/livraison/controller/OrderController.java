@@ -1,6 +1,9 @@
 package com.supplychainx.livraison.controller;
 
+import com.supplychainx.common.dto.CursorPageDTO;
 import com.supplychainx.common.enums.UserRole;
+import com.supplychainx.common.export.NdjsonExporter;
+import com.supplychainx.livraison.dto.OrderBatchCreateDTO;
 import com.supplychainx.livraison.dto.OrderRequestDTO;
 import com.supplychainx.livraison.dto.OrderResponseDTO;
 import com.supplychainx.livraison.service.OrderService;
@@ -12,6 +15,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -32,6 +36,15 @@ public class OrderController {
         OrderResponseDTO order = orderService.createOrder(dto);
         return ResponseEntity.status(HttpStatus.CREATED).body(order);
     }
+
+    @PostMapping("/batch")
+    @RequiresRole(UserRole.GESTIONNAIRE_COMMERCIAL)
+    @Operation(summary = "Créer un lot de commandes clients",
+            description = "Crée jusqu'à 1000 commandes en une transaction, insérées par lots JDBC")
+    public ResponseEntity<List<OrderResponseDTO>> createOrders(@Valid @RequestBody OrderBatchCreateDTO dto) {
+        List<OrderResponseDTO> orders = orderService.createOrders(dto);
+        return ResponseEntity.status(HttpStatus.CREATED).body(orders);
+    }
     
     @PutMapping("/{id}")
     @RequiresRole(UserRole.GESTIONNAIRE_COMMERCIAL)
@@ -61,6 +74,27 @@ public class OrderController {
         List<OrderResponseDTO> orders = orderService.getAllOrders();
         return ResponseEntity.ok(orders);
     }
+
+    @GetMapping("/export")
+    @RequiresRole(UserRole.SUPERVISEUR_LIVRAISONS)
+    @Operation(summary = "Exporter les commandes clients (NDJSON)",
+            description = "Flux d'un objet JSON par ligne, écrit au fil de la lecture, pour les synchronisations complètes")
+    public ResponseEntity<StreamingResponseBody> exportOrders() {
+        return ResponseEntity.ok()
+                .contentType(NdjsonExporter.APPLICATION_NDJSON)
+                .body(orderService.exportOrders());
+    }
+
+    @GetMapping("/page")
+    @RequiresRole(UserRole.SUPERVISEUR_LIVRAISONS)
+    @Operation(summary = "Liste paginée des commandes",
+               description = "Pagination par curseur (après l'identifiant du curseur, filtre de statut optionnel)")
+    public ResponseEntity<CursorPageDTO<OrderResponseDTO>> getOrdersPage(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) String status) {
+        return ResponseEntity.ok(orderService.getOrdersPage(cursor, limit, status));
+    }
     
 
     @GetMapping("/status/{status}")
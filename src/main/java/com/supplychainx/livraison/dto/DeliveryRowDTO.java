@@ -0,0 +1,40 @@
+package com.supplychainx.livraison.dto;
+
+import com.supplychainx.livraison.enums.DeliveryStatus;
+import com.supplychainx.livraison.enums.OrderStatus;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+/**
+ * Ligne de livraison lue par projection JPQL, avec la commande, le client et le produit
+ * issus de la même requête.
+ */
+@Getter
+public class DeliveryRowDTO {
+
+    private final Long idDelivery;
+    private final OrderRowDTO order;
+    private final String vehicle;
+    private final String driver;
+    private final DeliveryStatus status;
+    private final LocalDate deliveryDate;
+    private final Double cost;
+
+    public DeliveryRowDTO(Long idDelivery, String vehicle, String driver, DeliveryStatus status,
+                          LocalDate deliveryDate, Double cost,
+                          Long idOrder, Integer quantity, OrderStatus orderStatus,
+                          Long idCustomer, String customerName, String customerAddress, String customerCity,
+                          Long idProduct, String productName, Integer productionTime, Double productCost,
+                          Integer productStock) {
+        this.idDelivery = idDelivery;
+        this.order = new OrderRowDTO(idOrder, quantity, orderStatus,
+                idCustomer, customerName, customerAddress, customerCity,
+                idProduct, productName, productionTime, productCost, productStock);
+        this.vehicle = vehicle;
+        this.driver = driver;
+        this.status = status;
+        this.deliveryDate = deliveryDate;
+        this.cost = cost;
+    }
+}
@@ -0,0 +1,21 @@
+package com.supplychainx.livraison.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderBatchCreateDTO {
+
+    @NotEmpty(message = "La liste des commandes est requise")
+    @Size(max = 1000, message = "Au plus 1000 commandes par lot")
+    private List<@Valid OrderRequestDTO> orders;
+}
@@ -0,0 +1,31 @@
+package com.supplychainx.livraison.dto;
+
+import com.supplychainx.livraison.enums.OrderStatus;
+import com.supplychainx.production.dto.ProductResponseDTO;
+import lombok.Getter;
+
+/**
+ * Ligne de commande lue par projection JPQL (SELECT new ...) : une seule jointure
+ * orders/customers/products, aucune entité chargée dans le contexte de persistance.
+ */
+@Getter
+public class OrderRowDTO {
+
+    private final Long idOrder;
+    private final CustomerResponseDTO customer;
+    private final ProductResponseDTO product;
+    private final Integer quantity;
+    private final OrderStatus status;
+
+    public OrderRowDTO(Long idOrder, Integer quantity, OrderStatus status,
+                       Long idCustomer, String customerName, String customerAddress, String customerCity,
+                       Long idProduct, String productName, Integer productionTime, Double productCost,
+                       Integer productStock) {
+        this.idOrder = idOrder;
+        this.customer = new CustomerResponseDTO(idCustomer, customerName, customerAddress, customerCity);
+        // Version non projetée : le produit imbriqué dans une commande n'est pas modifiable par ce biais
+        this.product = new ProductResponseDTO(idProduct, productName, productionTime, productCost, productStock, null);
+        this.quantity = quantity;
+        this.status = status;
+    }
+}
@@ -1,5 +1,6 @@
 package com.supplychainx.livraison.entity;
 
+import com.supplychainx.common.entity.IdGenerators;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
@@ -16,7 +17,10 @@ import java.util.List;
 public class Customer {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "customers")
+    @TableGenerator(name = "customers", table = IdGenerators.TABLE,
+            pkColumnName = IdGenerators.NAME_COLUMN, valueColumnName = IdGenerators.VALUE_COLUMN,
+            pkColumnValue = "customers", allocationSize = IdGenerators.ALLOCATION_SIZE)
     private Long idCustomer;
     
     @Column(nullable = false)
@@ -1,5 +1,6 @@
 package com.supplychainx.livraison.entity;
 
+import com.supplychainx.common.entity.IdGenerators;
 import com.supplychainx.livraison.enums.DeliveryStatus;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
@@ -10,16 +11,27 @@ import java.time.LocalDate;
 
 @Entity
 @Table(name = "deliveries")
+@NamedEntityGraph(name = Delivery.WITH_ORDER_DETAILS,
+        attributeNodes = @NamedAttributeNode(value = "order", subgraph = "order"),
+        subgraphs = @NamedSubgraph(name = "order", attributeNodes = {
+                @NamedAttributeNode("customer"),
+                @NamedAttributeNode("product")
+        }))
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 public class Delivery {
+
+    public static final String WITH_ORDER_DETAILS = "Delivery.withOrderDetails";
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "deliveries")
+    @TableGenerator(name = "deliveries", table = IdGenerators.TABLE,
+            pkColumnName = IdGenerators.NAME_COLUMN, valueColumnName = IdGenerators.VALUE_COLUMN,
+            pkColumnValue = "deliveries", allocationSize = IdGenerators.ALLOCATION_SIZE)
     private Long idDelivery;
     
-    @OneToOne
+    @OneToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "order_id", unique = true, nullable = false)
     private Order order;
     
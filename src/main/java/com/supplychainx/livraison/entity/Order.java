@@ -1,5 +1,6 @@
 package com.supplychainx.livraison.entity;
 
+import com.supplychainx.common.entity.IdGenerators;
 import com.supplychainx.livraison.enums.OrderStatus;
 import com.supplychainx.production.entity.Product;
 import jakarta.persistence.*;
@@ -9,20 +10,29 @@ import lombok.NoArgsConstructor;
 
 @Entity
 @Table(name = "orders")
+@NamedEntityGraph(name = Order.WITH_CUSTOMER_AND_PRODUCT, attributeNodes = {
+        @NamedAttributeNode("customer"),
+        @NamedAttributeNode("product")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 public class Order {
+
+    public static final String WITH_CUSTOMER_AND_PRODUCT = "Order.withCustomerAndProduct";
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "orders")
+    @TableGenerator(name = "orders", table = IdGenerators.TABLE,
+            pkColumnName = IdGenerators.NAME_COLUMN, valueColumnName = IdGenerators.VALUE_COLUMN,
+            pkColumnValue = "orders", allocationSize = IdGenerators.ALLOCATION_SIZE)
     private Long idOrder;
     
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "customer_id", nullable = false)
     private Customer customer;
     
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "product_id", nullable = false)
     private Product product;
     
@@ -1,14 +1,45 @@
 package com.supplychainx.livraison.repository;
 
+import com.supplychainx.common.export.NdjsonExporter;
+import com.supplychainx.livraison.dto.DeliveryRowDTO;
 import com.supplychainx.livraison.entity.Delivery;
 import com.supplychainx.livraison.enums.DeliveryStatus;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
 
 @Repository
 public interface DeliveryRepository extends JpaRepository<Delivery, Long> {
     
+    // Toutes les lectures par identifiant renvoient la livraison complète (commande, client, produit)
+    @Override
+    @EntityGraph(Delivery.WITH_ORDER_DETAILS)
+    Optional<Delivery> findById(Long id);
+
+    @EntityGraph(Delivery.WITH_ORDER_DETAILS)
     List<Delivery> findByStatus(DeliveryStatus status);
+
+    @Query("SELECT new com.supplychainx.livraison.dto.DeliveryRowDTO("
+            + "d.idDelivery, d.vehicle, d.driver, d.status, d.deliveryDate, d.cost, "
+            + "o.idOrder, o.quantity, o.status, "
+            + "c.idCustomer, c.name, c.address, c.city, "
+            + "p.idProduct, p.name, p.productionTime, p.cost, p.stock) "
+            + "FROM Delivery d JOIN d.order o JOIN o.customer c JOIN o.product p "
+            + "WHERE d.status = :status ORDER BY d.deliveryDate, d.idDelivery")
+    List<DeliveryRowDTO> findRowsByStatus(@Param("status") DeliveryStatus status);
+
+    @EntityGraph(Delivery.WITH_ORDER_DETAILS)
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = NdjsonExporter.FETCH_SIZE))
+    @Query("SELECT d FROM Delivery d ORDER BY d.idDelivery")
+    Stream<Delivery> streamAll();
 }
@@ -1,17 +1,52 @@
 package com.supplychainx.livraison.repository;
 
+import com.supplychainx.common.export.NdjsonExporter;
+import com.supplychainx.livraison.dto.OrderRowDTO;
 import com.supplychainx.livraison.entity.Customer;
 import com.supplychainx.livraison.entity.Order;
 import com.supplychainx.livraison.enums.OrderStatus;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
 
 @Repository
 public interface OrderRepository extends JpaRepository<Order, Long> {
+
+    String ROW_PROJECTION = "SELECT new com.supplychainx.livraison.dto.OrderRowDTO("
+            + "o.idOrder, o.quantity, o.status, "
+            + "c.idCustomer, c.name, c.address, c.city, "
+            + "p.idProduct, p.name, p.productionTime, p.cost, p.stock) "
+            + "FROM Order o JOIN o.customer c JOIN o.product p ";
     
+    @EntityGraph(Order.WITH_CUSTOMER_AND_PRODUCT)
     List<Order> findByStatus(OrderStatus status);
     
     List<Order> findByCustomer(Customer customer);
+
+    @Query(ROW_PROJECTION + "ORDER BY o.idOrder")
+    List<OrderRowDTO> findAllRows();
+
+    @Query(ROW_PROJECTION + "WHERE o.status = :status ORDER BY o.idOrder")
+    List<OrderRowDTO> findRowsByStatus(@Param("status") OrderStatus status);
+
+    @Query(ROW_PROJECTION + "WHERE o.idOrder > :afterId ORDER BY o.idOrder")
+    List<OrderRowDTO> findRowsAfter(@Param("afterId") Long afterId, Limit limit);
+
+    @Query(ROW_PROJECTION + "WHERE o.status = :status AND o.idOrder > :afterId ORDER BY o.idOrder")
+    List<OrderRowDTO> findRowsByStatusAfter(@Param("status") OrderStatus status, @Param("afterId") Long afterId, Limit limit);
+
+    @EntityGraph(Order.WITH_CUSTOMER_AND_PRODUCT)
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = NdjsonExporter.FETCH_SIZE))
+    @Query("SELECT o FROM Order o ORDER BY o.idOrder")
+    Stream<Order> streamAll();
 }
@@ -1,5 +1,6 @@
 package com.supplychainx.livraison.service;
 
+import com.supplychainx.common.export.NdjsonExporter;
 import com.supplychainx.exception.ResourceNotFoundException;
 import com.supplychainx.livraison.dto.DeliveryRequestDTO;
 import com.supplychainx.livraison.dto.DeliveryResponseDTO;
@@ -16,6 +17,7 @@ import com.supplychainx.mapper.ProductMapper;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 import java.util.stream.Collectors;
@@ -30,6 +32,7 @@ public class DeliveryService {
     private final OrderMapper orderMapper;
     private final CustomerMapper customerMapper;
     private final ProductMapper productMapper;
+    private final NdjsonExporter ndjsonExporter;
 
     @Transactional
     public DeliveryResponseDTO createDelivery(DeliveryRequestDTO dto) {
@@ -64,6 +67,7 @@ public class DeliveryService {
         return productCost * quantity * deliveryFactor;
     }
     
+    @Transactional(readOnly = true)
     public DeliveryResponseDTO getDeliveryById(Long id) {
         Delivery delivery = deliveryRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException(
@@ -106,8 +110,12 @@ public class DeliveryService {
     
     public List<DeliveryResponseDTO> getDeliveriesByStatus(String status) {
         DeliveryStatus deliveryStatus = DeliveryStatus.valueOf(status);
-        return deliveryRepository.findByStatus(deliveryStatus).stream()
-                .map(deliveryMapper::toResponseDTO)
+        return deliveryRepository.findRowsByStatus(deliveryStatus).stream()
+                .map(deliveryMapper::fromRow)
                 .collect(Collectors.toList());
     }
+
+    public StreamingResponseBody exportDeliveries() {
+        return ndjsonExporter.export(deliveryRepository::streamAll, deliveryMapper::toResponseDTO);
+    }
 }
@@ -1,9 +1,14 @@
 package com.supplychainx.livraison.service;
 
+import com.supplychainx.common.dto.CursorPageDTO;
+import com.supplychainx.common.export.NdjsonExporter;
+import com.supplychainx.common.pagination.CursorCodec;
 import com.supplychainx.exception.BusinessRuleException;
 import com.supplychainx.exception.ResourceNotFoundException;
+import com.supplychainx.livraison.dto.OrderBatchCreateDTO;
 import com.supplychainx.livraison.dto.OrderRequestDTO;
 import com.supplychainx.livraison.dto.OrderResponseDTO;
+import com.supplychainx.livraison.dto.OrderRowDTO;
 import com.supplychainx.livraison.entity.Customer;
 import com.supplychainx.livraison.entity.Order;
 import com.supplychainx.livraison.enums.OrderStatus;
@@ -17,8 +22,12 @@ import com.supplychainx.production.repository.ProductRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -29,6 +38,7 @@ public class OrderService {
     private final CustomerRepository customerRepository;
     private final ProductRepository productRepository;
     private final OrderMapper orderMapper;
+    private final NdjsonExporter ndjsonExporter;
     private final CustomerMapper customerMapper;
     private final ProductMapper productMapper;
     
@@ -51,6 +61,44 @@ public class OrderService {
         Order savedOrder = orderRepository.save(order);
         return orderMapper.toResponseDTO(savedOrder);
     }
+
+    /**
+     * Crée un lot de commandes : clients et produits sont chargés en deux requêtes,
+     * puis les commandes sont insérées par lots JDBC (hibernate.jdbc.batch_size).
+     * Le lot est refusé en entier si une référence est inconnue.
+     */
+    @Transactional
+    public List<OrderResponseDTO> createOrders(OrderBatchCreateDTO dto) {
+        List<OrderRequestDTO> requests = dto.getOrders();
+        Map<Long, Customer> customers = customerRepository.findAllById(requests.stream()
+                        .map(OrderRequestDTO::getCustomerId).collect(Collectors.toSet())).stream()
+                .collect(Collectors.toMap(Customer::getIdCustomer, Function.identity()));
+        Map<Long, Product> products = productRepository.findAllById(requests.stream()
+                        .map(OrderRequestDTO::getProductId).collect(Collectors.toSet())).stream()
+                .collect(Collectors.toMap(Product::getIdProduct, Function.identity()));
+
+        List<Order> orders = new ArrayList<>(requests.size());
+        for (OrderRequestDTO request : requests) {
+            Customer customer = customers.get(request.getCustomerId());
+            if (customer == null) {
+                throw new ResourceNotFoundException("Client non trouvé avec l'ID: " + request.getCustomerId());
+            }
+            Product product = products.get(request.getProductId());
+            if (product == null) {
+                throw new ResourceNotFoundException("Produit non trouvé avec l'ID: " + request.getProductId());
+            }
+            Order order = new Order();
+            order.setCustomer(customer);
+            order.setProduct(product);
+            order.setQuantity(request.getQuantity());
+            order.setStatus(OrderStatus.valueOf(request.getStatus()));
+            orders.add(order);
+        }
+
+        return orderRepository.saveAll(orders).stream()
+                .map(orderMapper::toResponseDTO)
+                .collect(Collectors.toList());
+    }
     
     @Transactional
     public OrderResponseDTO updateOrder(Long id, OrderRequestDTO dto) {
@@ -93,16 +141,30 @@ public class OrderService {
     
     @Transactional(readOnly = true)
     public List<OrderResponseDTO> getAllOrders() {
-        return orderRepository.findAll().stream()
-                .map(orderMapper::toResponseDTO)
+        return orderRepository.findAllRows().stream()
+                .map(orderMapper::fromRow)
                 .collect(Collectors.toList());
     }
 
+    public StreamingResponseBody exportOrders() {
+        return ndjsonExporter.export(orderRepository::streamAll, orderMapper::toResponseDTO);
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPageDTO<OrderResponseDTO> getOrdersPage(String cursor, Integer limit, String status) {
+        Long afterId = CursorCodec.decode(cursor);
+        List<OrderRowDTO> rows = status == null
+                ? orderRepository.findRowsAfter(afterId, CursorCodec.fetchLimit(limit))
+                : orderRepository.findRowsByStatusAfter(
+                        OrderStatus.valueOf(status), afterId, CursorCodec.fetchLimit(limit));
+        return CursorCodec.page(rows, limit, OrderRowDTO::getIdOrder, orderMapper::fromRow);
+    }
+
     @Transactional(readOnly = true)
     public List<OrderResponseDTO> getOrdersByStatus(String status) {
         OrderStatus orderStatus = OrderStatus.valueOf(status);        
-        return orderRepository.findByStatus(orderStatus).stream()
-                .map(orderMapper::toResponseDTO)
+        return orderRepository.findRowsByStatus(orderStatus).stream()
+                .map(orderMapper::fromRow)
                 .collect(Collectors.toList());
     }
 }
@@ -13,11 +13,13 @@ public interface BillOfMaterialMapper {
 
     @Mapping(target = "product", ignore = true)
     @Mapping(target = "material", ignore = true)
+    @Mapping(target = "childProduct", ignore = true)
     BillOfMaterial toEntity(BillOfMaterialRequestDTO dto);
 
     BillOfMaterialResponseDTO toResponseDTO(BillOfMaterial billOfMaterial);
 
     @Mapping(target = "product", ignore = true)
     @Mapping(target = "material", ignore = true)
+    @Mapping(target = "childProduct", ignore = true)
     void updateEntityFromDTO(BillOfMaterialRequestDTO dto, @MappingTarget BillOfMaterial billOfMaterial);
 }
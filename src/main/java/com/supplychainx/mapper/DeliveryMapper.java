@@ -2,6 +2,7 @@ package com.supplychainx.mapper;
 
 import com.supplychainx.livraison.dto.DeliveryRequestDTO;
 import com.supplychainx.livraison.dto.DeliveryResponseDTO;
+import com.supplychainx.livraison.dto.DeliveryRowDTO;
 import com.supplychainx.livraison.entity.Delivery;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
@@ -16,6 +17,8 @@ public interface DeliveryMapper {
 
     DeliveryResponseDTO toResponseDTO(Delivery delivery);
 
+    DeliveryResponseDTO fromRow(DeliveryRowDTO row);
+
     @Mapping(target = "order", ignore = true)
     void updateEntityFromDTO(DeliveryRequestDTO dto, @MappingTarget Delivery delivery);
 }
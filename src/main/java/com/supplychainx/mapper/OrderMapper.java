@@ -2,6 +2,7 @@ package com.supplychainx.mapper;
 
 import com.supplychainx.livraison.dto.OrderRequestDTO;
 import com.supplychainx.livraison.dto.OrderResponseDTO;
+import com.supplychainx.livraison.dto.OrderRowDTO;
 import com.supplychainx.livraison.entity.Order;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
@@ -17,6 +18,8 @@ public interface OrderMapper {
 
     OrderResponseDTO toResponseDTO(Order order);
 
+    OrderResponseDTO fromRow(OrderRowDTO row);
+
     @Mapping(target = "customer", ignore = true)
     @Mapping(target = "product", ignore = true)
     void updateEntityFromDTO(OrderRequestDTO dto, @MappingTarget Order order);
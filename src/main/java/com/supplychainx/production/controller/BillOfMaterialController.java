@@ -1,5 +1,6 @@
 package com.supplychainx.production.controller;
 
+import com.supplychainx.common.dto.CursorPageDTO;
 import com.supplychainx.common.enums.UserRole;
 import com.supplychainx.production.dto.BillOfMaterialRequestDTO;
 import com.supplychainx.production.dto.BillOfMaterialResponseDTO;
@@ -63,6 +64,17 @@ public class BillOfMaterialController {
         List<BillOfMaterialResponseDTO> boms = billOfMaterialService.getAllBillOfMaterials();
         return ResponseEntity.ok(boms);
     }
+
+    @GetMapping("/page")
+    @RequiresRole({UserRole.PLANIFICATEUR, UserRole.SUPERVISEUR_PRODUCTION})
+    @Operation(summary = "Liste paginée des nomenclatures",
+               description = "Pagination par curseur (après l'identifiant du curseur)")
+    public ResponseEntity<CursorPageDTO<BillOfMaterialResponseDTO>> getBillOfMaterialsPage(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(billOfMaterialService.getBillOfMaterialsPage(cursor, limit));
+    }
+
     @GetMapping("/product/{productId}")
     @RequiresRole({UserRole.PLANIFICATEUR, UserRole.SUPERVISEUR_PRODUCTION})
     @Operation(summary = "Consulter la BOM d'un produit", 
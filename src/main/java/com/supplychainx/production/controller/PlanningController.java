@@ -1,16 +1,25 @@
 package com.supplychainx.production.controller;
 
 import com.supplychainx.common.enums.UserRole;
+import com.supplychainx.production.dto.BatchAvailabilityRequestDTO;
+import com.supplychainx.production.dto.BatchAvailabilityResponseDTO;
+import com.supplychainx.production.dto.MaxProducibleResponseDTO;
+import com.supplychainx.production.dto.MrpResultDTO;
 import com.supplychainx.production.dto.ProductionAvailabilityResponseDTO;
 import com.supplychainx.production.dto.ProductionTimeResponseDTO;
+import com.supplychainx.production.service.MrpService;
 import com.supplychainx.production.service.PlanningService;
 import com.supplychainx.security.RequiresRole;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Size;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 @RestController
 @RequestMapping("/api/planning")
 @RequiredArgsConstructor
@@ -18,6 +27,7 @@ import org.springframework.web.bind.annotation.*;
 public class PlanningController {
     
     private final PlanningService planningService;
+    private final MrpService mrpService;
 
     @GetMapping("/check-availability")
     @RequiresRole(UserRole.PLANIFICATEUR)
@@ -29,8 +39,55 @@ public class PlanningController {
         ProductionAvailabilityResponseDTO response = planningService.checkMaterialAvailability(productId, quantity);
         return ResponseEntity.ok(response);
     }
+
+    @PostMapping("/check-availability/batch")
+    @RequiresRole(UserRole.PLANIFICATEUR)
+    @Operation(summary = "Vérifier la disponibilité des matières pour plusieurs produits",
+            description = "Statut de chaque couple produit / quantité, demande cumulée par matière et faisabilité de l'ensemble produit ensemble")
+    public ResponseEntity<BatchAvailabilityResponseDTO> checkBatchAvailability(
+            @Valid @RequestBody BatchAvailabilityRequestDTO dto) {
+        BatchAvailabilityResponseDTO response = planningService.checkBatchAvailability(dto);
+        return ResponseEntity.ok(response);
+    }
     
 
+    @GetMapping("/max-producible")
+    @RequiresRole(UserRole.PLANIFICATEUR)
+    @Operation(summary = "Quantité maximale productible",
+            description = "Calcule la quantité maximale productible avec le stock actuel des matières premières et la matière qui la limite")
+    public ResponseEntity<MaxProducibleResponseDTO> getMaxProducible(@RequestParam Long productId) {
+        MaxProducibleResponseDTO response = planningService.getMaxProducible(productId);
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/max-producible/ranking")
+    @RequiresRole(UserRole.PLANIFICATEUR)
+    @Operation(summary = "Classer des produits par valeur productible",
+            description = "Quantité maximale productible et matière goulot de chaque produit (500 au plus), triés par quantité maximale x coût unitaire décroissant")
+    public ResponseEntity<List<MaxProducibleResponseDTO>> rankByProducibleValue(
+            @RequestParam @Size(max = 500, message = "Au plus 500 produits par classement") List<Long> productIds) {
+        List<MaxProducibleResponseDTO> response = planningService.rankByProducibleValue(productIds);
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/mrp")
+    @RequiresRole(UserRole.PLANIFICATEUR)
+    @Operation(summary = "Dernier calcul MRP",
+            description = "Pénuries datées par matière issues du dernier calcul MRP périodique (ordres de production ouverts, stock et approvisionnements en cours)")
+    public ResponseEntity<MrpResultDTO> getLatestMrp() {
+        MrpResultDTO response = mrpService.getLatest();
+        return ResponseEntity.ok(response);
+    }
+
+    @PostMapping("/mrp/run")
+    @RequiresRole(UserRole.PLANIFICATEUR)
+    @Operation(summary = "Lancer un calcul MRP",
+            description = "Relance immédiatement le calcul MRP sans attendre la prochaine exécution planifiée")
+    public ResponseEntity<MrpResultDTO> runMrp() {
+        MrpResultDTO response = mrpService.run();
+        return ResponseEntity.ok(response);
+    }
+
     @GetMapping("/calculate-time")
     @RequiresRole(UserRole.PLANIFICATEUR)
     @Operation(summary = "Calculer le temps de production",
@@ -1,5 +1,7 @@
 package com.supplychainx.production.controller;
 
+import com.supplychainx.common.dto.CursorPageDTO;
+import com.supplychainx.common.dto.StockAdjustmentDTO;
 import com.supplychainx.common.enums.UserRole;
 import com.supplychainx.production.dto.ProductCreateDTO;
 import com.supplychainx.production.dto.ProductResponseDTO;
@@ -36,7 +38,7 @@ public class ProductController {
     @PutMapping("/{id}")
     @RequiresRole(UserRole.CHEF_PRODUCTION)
     @Operation(summary = "Modifier un produit fini", 
-               description = "Permet au chef de production de modifier un produit existant")
+               description = "Permet au chef de production de modifier un produit existant ; la version lue est requise (409 si le produit a changé entre-temps)")
     public ResponseEntity<ProductResponseDTO> updateProduct(
             @PathVariable Long id,
             @Valid @RequestBody ProductUpdateDTO dto) {
@@ -44,6 +46,16 @@ public class ProductController {
         return ResponseEntity.ok(updated);
     }
 
+    @PatchMapping("/{id}/stock")
+    @RequiresRole(UserRole.CHEF_PRODUCTION)
+    @Operation(summary = "Ajuster le stock d'un produit",
+               description = "Ajoute (delta positif) ou retire (delta négatif) des unités sans écraser les modifications concurrentes")
+    public ResponseEntity<ProductResponseDTO> adjustStock(
+            @PathVariable Long id,
+            @Valid @RequestBody StockAdjustmentDTO dto) {
+        return ResponseEntity.ok(productService.adjustStock(id, dto.getDelta()));
+    }
+
     @DeleteMapping("/{id}")
     @RequiresRole(UserRole.CHEF_PRODUCTION)
     @Operation(summary = "Supprimer un produit fini", 
@@ -62,6 +74,16 @@ public class ProductController {
         return ResponseEntity.ok(products);
     }
 
+    @GetMapping("/page")
+    @RequiresRole(UserRole.SUPERVISEUR_PRODUCTION)
+    @Operation(summary = "Liste paginée des produits",
+               description = "Pagination par curseur (après l'identifiant du curseur)")
+    public ResponseEntity<CursorPageDTO<ProductResponseDTO>> getProductsPage(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(productService.getProductsPage(cursor, limit));
+    }
+
     @GetMapping("/search")
     @RequiresRole(UserRole.SUPERVISEUR_PRODUCTION)
     @Operation(summary = "Rechercher un produit par nom", 
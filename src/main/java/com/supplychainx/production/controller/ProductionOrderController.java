@@ -1,5 +1,6 @@
 package com.supplychainx.production.controller;
 
+import com.supplychainx.common.dto.CursorPageDTO;
 import com.supplychainx.common.enums.UserRole;
 import com.supplychainx.production.dto.ProductionOrderCreateDTO;
 import com.supplychainx.production.dto.ProductionOrderResponseDTO;
@@ -62,6 +63,17 @@ public class ProductionOrderController {
         return ResponseEntity.ok(orders);
     }
 
+    @GetMapping("/page")
+    @RequiresRole(UserRole.SUPERVISEUR_PRODUCTION)
+    @Operation(summary = "Liste paginée des ordres de production",
+               description = "Pagination par curseur (après l'identifiant du curseur, filtre de statut optionnel)")
+    public ResponseEntity<CursorPageDTO<ProductionOrderResponseDTO>> getProductionOrdersPage(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) String status) {
+        return ResponseEntity.ok(productionOrderService.getProductionOrdersPage(cursor, limit, status));
+    }
+
     @GetMapping("/status/{status}")
     @RequiresRole(UserRole.SUPERVISEUR_PRODUCTION)
     @Operation(summary = "Filtrer les ordres par statut", 
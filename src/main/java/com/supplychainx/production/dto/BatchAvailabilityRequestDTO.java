@@ -0,0 +1,20 @@
+package com.supplychainx.production.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchAvailabilityRequestDTO {
+
+    @NotEmpty(message = "La liste des produits est requise")
+    @Size(max = 500, message = "Au plus 500 produits par vérification")
+    private List<@Valid ProductQuantityDTO> items;
+}
@@ -0,0 +1,21 @@
+package com.supplychainx.production.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Résultat d'une vérification groupée : le statut de chaque produit pris isolément, puis
+ * la demande cumulée par matière et la faisabilité de l'ensemble produit ensemble.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchAvailabilityResponseDTO {
+
+    private List<ProductionAvailabilityResponseDTO> products;
+    private List<MaterialAvailabilityDTO> combinedDemand;
+    private Boolean canProduceAll;
+}
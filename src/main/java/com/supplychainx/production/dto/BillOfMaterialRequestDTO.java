@@ -14,9 +14,12 @@ public class BillOfMaterialRequestDTO {
     @NotNull(message = "L'identifiant du produit est obligatoire")
     private Long productId;
 
-    @NotNull(message = "L'identifiant de la matière première est obligatoire")
+    /** Matière première consommée ; exclusif avec childProductId. */
     private Long materialId;
 
+    /** Sous-ensemble (produit) consommé ; exclusif avec materialId. */
+    private Long childProductId;
+
     @NotNull(message = "La quantité est obligatoire")
     @Positive(message = "La quantité doit être positive")
     private Integer quantity;
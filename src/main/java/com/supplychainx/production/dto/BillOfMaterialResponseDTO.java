@@ -14,5 +14,6 @@ public class BillOfMaterialResponseDTO {
     private Long idBOM;
     private ProductResponseDTO product;
     private RawMaterialResponseDTO material;
+    private ProductResponseDTO childProduct;
     private Integer quantity;
 }
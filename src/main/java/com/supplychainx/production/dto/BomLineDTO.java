@@ -0,0 +1,18 @@
+package com.supplychainx.production.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Ligne de nomenclature lue par projection JPQL : identifiants seulement. Exactement un
+ * de materialId et childProductId est renseigné.
+ */
+@Getter
+@AllArgsConstructor
+public class BomLineDTO {
+
+    private final Long productId;
+    private final Long materialId;
+    private final Long childProductId;
+    private final Integer quantity;
+}
@@ -0,0 +1,22 @@
+package com.supplychainx.production.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class MaterialShortageDTO {
+
+    private Long idMaterial;
+    private String materialName;
+    private Integer stock;
+    private Long totalDemand;
+    private LocalDate firstShortageDate;
+    private List<MrpBucketDTO> shortageBuckets;
+    private List<PendingSupplyDTO> pendingSupplies;
+}
@@ -0,0 +1,22 @@
+package com.supplychainx.production.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Quantité maximale productible avec le stock actuel et matière qui la limite. Les champs
+ * calculés sont nuls pour un produit sans nomenclature (rien ne limite sa production).
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class MaxProducibleResponseDTO {
+
+    private Long productId;
+    private String productName;
+    private Integer maxQuantity;
+    private Long bottleneckMaterialId;
+    private String bottleneckMaterialName;
+    private Double producibleValue;
+}
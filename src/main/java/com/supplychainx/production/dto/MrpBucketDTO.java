@@ -0,0 +1,21 @@
+package com.supplychainx.production.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * Seau de l'horizon MRP : demande brute du seau et stock projeté après consommation
+ * (négatif en cas de pénurie).
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class MrpBucketDTO {
+
+    private LocalDate date;
+    private Long demand;
+    private Long projectedStock;
+}
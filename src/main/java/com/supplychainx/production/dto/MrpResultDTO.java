@@ -0,0 +1,30 @@
+package com.supplychainx.production.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Résultat d'un calcul MRP : pénuries datées par matière sur l'horizon. openOrders compte les
+ * ordres effectivement pris en compte dans le calcul : ceux dont la date de début dépasse
+ * l'horizon en sont exclus, comme ceux, comptés dans skippedOrders, dont la nomenclature est
+ * inexploitable (cycle).
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class MrpResultDTO {
+
+    private LocalDateTime generatedAt;
+    private LocalDate horizonStart;
+    private LocalDate horizonEnd;
+    private Integer bucketDays;
+    private Integer openOrders;
+    private Integer skippedOrders;
+    private Long durationMillis;
+    private List<MaterialShortageDTO> shortages;
+}
@@ -0,0 +1,18 @@
+package com.supplychainx.production.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+/**
+ * Ordre de production ouvert lu par projection JPQL pour le calcul MRP.
+ */
+@Getter
+@AllArgsConstructor
+public class OpenProductionOrderRowDTO {
+
+    private final Long productId;
+    private final Integer quantity;
+    private final LocalDate startDate;
+}
@@ -0,0 +1,21 @@
+package com.supplychainx.production.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * Commande d'approvisionnement en cours pour une matière. Les commandes ne portent pas de
+ * quantité : la réception attendue (date de commande + délai fournisseur) est indiquée
+ * sans être déduite des pénuries.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PendingSupplyDTO {
+
+    private Long idSupplyOrder;
+    private LocalDate expectedDate;
+}
@@ -0,0 +1,20 @@
+package com.supplychainx.production.dto;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductQuantityDTO {
+
+    @NotNull(message = "L'identifiant du produit est obligatoire")
+    private Long productId;
+
+    @NotNull(message = "La quantité est obligatoire")
+    @Positive(message = "La quantité doit être positive")
+    private Integer quantity;
+}
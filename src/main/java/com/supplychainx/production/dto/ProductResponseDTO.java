@@ -15,4 +15,5 @@ public class ProductResponseDTO {
     private Integer productionTime;
     private Double cost;
     private Integer stock;
+    private Long version;
 }
@@ -28,4 +28,8 @@ public class ProductUpdateDTO {
     @NotNull(message = "Le stock est obligatoire")
     @PositiveOrZero(message = "Le stock doit être positif ou zéro")
     private Integer stock;
+
+    // Version lue avec le produit : le stock étant absolu, une écriture intermédiaire serait écrasée
+    @NotNull(message = "La version est obligatoire")
+    private Long version;
 }
@@ -1,6 +1,7 @@
 package com.supplychainx.production.entity;
 
 import com.supplychainx.approvisionnement.entity.RawMaterial;
+import com.supplychainx.common.entity.IdGenerators;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
@@ -8,23 +9,41 @@ import lombok.NoArgsConstructor;
 
 @Entity
 @Table(name = "bill_of_materials")
+@NamedEntityGraph(name = BillOfMaterial.WITH_COMPONENTS, attributeNodes = {
+        @NamedAttributeNode("product"),
+        @NamedAttributeNode("material"),
+        @NamedAttributeNode("childProduct")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 public class BillOfMaterial {
+
+    public static final String WITH_COMPONENTS = "BillOfMaterial.withComponents";
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "bill_of_materials")
+    @TableGenerator(name = "bill_of_materials", table = IdGenerators.TABLE,
+            pkColumnName = IdGenerators.NAME_COLUMN, valueColumnName = IdGenerators.VALUE_COLUMN,
+            pkColumnValue = "bill_of_materials", allocationSize = IdGenerators.ALLOCATION_SIZE)
     @Column(name = "id_bom")
     private Long idBOM;
     
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "product_id", nullable = false)
     private Product product;
     
-    @ManyToOne
-    @JoinColumn(name = "material_id", nullable = false)
+    /**
+     * Composant de la ligne : soit une matière première, soit un sous-ensemble
+     * (childProduct), jamais les deux. Contrôlé par BillOfMaterialService.
+     */
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "material_id")
     private RawMaterial material;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "child_product_id")
+    private Product childProduct;
     
     @Column(nullable = false)
     private Integer quantity;
@@ -1,19 +1,28 @@
 package com.supplychainx.production.entity;
 
+import com.supplychainx.common.entity.CacheRegions;
+import com.supplychainx.common.entity.IdGenerators;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity
 @Table(name = "products")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.PRODUCTS)
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 public class Product {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "products")
+    @TableGenerator(name = "products", table = IdGenerators.TABLE,
+            pkColumnName = IdGenerators.NAME_COLUMN, valueColumnName = IdGenerators.VALUE_COLUMN,
+            pkColumnValue = "products", allocationSize = IdGenerators.ALLOCATION_SIZE)
     private Long idProduct;
     
     @Column(nullable = false)
@@ -27,4 +36,8 @@ public class Product {
     
     @Column(nullable = false)
     private Integer stock;
+
+    @Version
+    @Column(nullable = false)
+    private Long version;
 }
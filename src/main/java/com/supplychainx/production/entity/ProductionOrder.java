@@ -1,5 +1,6 @@
 package com.supplychainx.production.entity;
 
+import com.supplychainx.common.entity.IdGenerators;
 import com.supplychainx.production.enums.ProductionOrderStatus;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
@@ -10,16 +11,22 @@ import java.time.LocalDate;
 
 @Entity
 @Table(name = "production_orders")
+@NamedEntityGraph(name = ProductionOrder.WITH_PRODUCT, attributeNodes = @NamedAttributeNode("product"))
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 public class ProductionOrder {
+
+    public static final String WITH_PRODUCT = "ProductionOrder.withProduct";
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "production_orders")
+    @TableGenerator(name = "production_orders", table = IdGenerators.TABLE,
+            pkColumnName = IdGenerators.NAME_COLUMN, valueColumnName = IdGenerators.VALUE_COLUMN,
+            pkColumnValue = "production_orders", allocationSize = IdGenerators.ALLOCATION_SIZE)
     private Long idOrder;
     
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "product_id", nullable = false)
     private Product product;
     
@@ -1,14 +1,41 @@
 package com.supplychainx.production.repository;
 
+import com.supplychainx.production.dto.BomLineDTO;
 import com.supplychainx.production.entity.BillOfMaterial;
 import com.supplychainx.production.entity.Product;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface BillOfMaterialRepository extends JpaRepository<BillOfMaterial, Long> {
-    
+
+    @Override
+    @EntityGraph(BillOfMaterial.WITH_COMPONENTS)
+    Optional<BillOfMaterial> findById(Long id);
+
+    @Override
+    @EntityGraph(BillOfMaterial.WITH_COMPONENTS)
+    List<BillOfMaterial> findAll();
+
+    @EntityGraph(BillOfMaterial.WITH_COMPONENTS)
     List<BillOfMaterial> findByProduct(Product product);
+
+    @EntityGraph(BillOfMaterial.WITH_COMPONENTS)
+    List<BillOfMaterial> findByIdBOMGreaterThanOrderByIdBOMAsc(Long afterId, Limit limit);
+
+    /**
+     * Toutes les lignes de nomenclature, réduites aux identifiants : une requête suffit
+     * à construire le graphe produits / sous-ensembles / matières.
+     */
+    @Query("SELECT new com.supplychainx.production.dto.BomLineDTO("
+            + "p.idProduct, m.idMaterial, c.idProduct, b.quantity) "
+            + "FROM BillOfMaterial b JOIN b.product p LEFT JOIN b.material m LEFT JOIN b.childProduct c "
+            + "ORDER BY b.idBOM")
+    List<BomLineDTO> findAllLines();
 }
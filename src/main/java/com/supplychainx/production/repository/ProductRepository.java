@@ -1,13 +1,34 @@
 package com.supplychainx.production.repository;
 
 import com.supplychainx.production.entity.Product;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
+import static org.hibernate.jpa.HibernateHints.HINT_CACHEABLE;
+
 @Repository
 public interface ProductRepository extends JpaRepository<Product, Long> {
     
+    @QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
     List<Product> findByNameContainingIgnoreCase(String name);
+
+    List<Product> findByIdProductGreaterThanOrderByIdProductAsc(Long afterId, Limit limit);
+
+    /**
+     * Verrouille (FOR UPDATE, par id croissant) les produits donnés et tous ceux qui ont déjà
+     * un sous-ensemble : sérialise les écritures capables de fermer un cycle de nomenclature.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT p FROM Product p WHERE p.idProduct IN :productIds ORDER BY p.idProduct")
+    List<Product> lockForSubAssemblyWrite(@Param("productIds") Collection<Long> productIds);
 }
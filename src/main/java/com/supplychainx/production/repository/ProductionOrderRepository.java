@@ -1,17 +1,45 @@
 package com.supplychainx.production.repository;
 
+import com.supplychainx.production.dto.OpenProductionOrderRowDTO;
 import com.supplychainx.production.entity.Product;
 import com.supplychainx.production.entity.ProductionOrder;
 import com.supplychainx.production.enums.ProductionOrderStatus;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface ProductionOrderRepository extends JpaRepository<ProductionOrder, Long> {
-    
+
+    @Override
+    @EntityGraph(ProductionOrder.WITH_PRODUCT)
+    Optional<ProductionOrder> findById(Long id);
+
+    @Override
+    @EntityGraph(ProductionOrder.WITH_PRODUCT)
+    List<ProductionOrder> findAll();
+
+    @EntityGraph(ProductionOrder.WITH_PRODUCT)
     List<ProductionOrder> findByStatus(ProductionOrderStatus status);
     
+    // Contrôle d'existence avant suppression d'un produit : le produit n'est pas rechargé
     List<ProductionOrder> findByProduct(Product product);
+
+    @EntityGraph(ProductionOrder.WITH_PRODUCT)
+    List<ProductionOrder> findByIdOrderGreaterThanOrderByIdOrderAsc(Long afterId, Limit limit);
+
+    @EntityGraph(ProductionOrder.WITH_PRODUCT)
+    List<ProductionOrder> findByStatusAndIdOrderGreaterThanOrderByIdOrderAsc(ProductionOrderStatus status, Long afterId, Limit limit);
+
+    // Calcul MRP : identifiants et dates seulement, aucune entité chargée
+    @Query("SELECT new com.supplychainx.production.dto.OpenProductionOrderRowDTO(p.idProduct, o.quantity, o.startDate) "
+            + "FROM ProductionOrder o JOIN o.product p WHERE o.status IN :statuses")
+    List<OpenProductionOrderRowDTO> findRowsByStatusIn(@Param("statuses") Collection<ProductionOrderStatus> statuses);
 }
@@ -2,6 +2,9 @@ package com.supplychainx.production.service;
 
 import com.supplychainx.approvisionnement.entity.RawMaterial;
 import com.supplychainx.approvisionnement.repository.RawMaterialRepository;
+import com.supplychainx.common.dto.CursorPageDTO;
+import com.supplychainx.common.pagination.CursorCodec;
+import com.supplychainx.exception.BusinessRuleException;
 import com.supplychainx.exception.ResourceNotFoundException;
 import com.supplychainx.mapper.BillOfMaterialMapper;
 import com.supplychainx.production.dto.BillOfMaterialRequestDTO;
@@ -14,7 +17,9 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 
@@ -26,28 +31,28 @@ public class BillOfMaterialService {
     private final ProductRepository productRepository;
     private final RawMaterialRepository rawMaterialRepository;
     private final BillOfMaterialMapper billOfMaterialMapper;
+    private final BomExplosionEngine bomExplosionEngine;
 
     @Transactional
     public BillOfMaterialResponseDTO createBillOfMaterial(BillOfMaterialRequestDTO dto) {
+        lockSubAssemblyWrites(dto);
         Product product = productRepository.findById(dto.getProductId())
                 .orElseThrow(() -> new ResourceNotFoundException(
                         "Produit non trouvé avec l'ID: " + dto.getProductId()));
 
-        RawMaterial material = rawMaterialRepository.findById(dto.getMaterialId())
-                .orElseThrow(() -> new ResourceNotFoundException(
-                        "Matière première non trouvée avec l'ID: " + dto.getMaterialId()));
-
         BillOfMaterial bom = billOfMaterialMapper.toEntity(dto);
         bom.setProduct(product);
-        bom.setMaterial(material);
+        setComponent(bom, dto);
 
         BillOfMaterial savedBom = billOfMaterialRepository.save(bom);
+        bomExplosionEngine.reloadAfterCommit();
         return billOfMaterialMapper.toResponseDTO(savedBom);
     }
 
 
     @Transactional
     public BillOfMaterialResponseDTO updateBillOfMaterial(Long id, BillOfMaterialRequestDTO dto) {
+        lockSubAssemblyWrites(dto);
         BillOfMaterial bom = billOfMaterialRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException(
                         "Nomenclature non trouvée avec l'ID: " + id));
@@ -56,15 +61,12 @@ public class BillOfMaterialService {
                 .orElseThrow(() -> new ResourceNotFoundException(
                         "Produit non trouvé avec l'ID: " + dto.getProductId()));
 
-        RawMaterial material = rawMaterialRepository.findById(dto.getMaterialId())
-                .orElseThrow(() -> new ResourceNotFoundException(
-                        "Matière première non trouvée avec l'ID: " + dto.getMaterialId()));
-
         billOfMaterialMapper.updateEntityFromDTO(dto, bom);
         bom.setProduct(product);
-        bom.setMaterial(material);
+        setComponent(bom, dto);
 
         BillOfMaterial updatedBom = billOfMaterialRepository.save(bom);
+        bomExplosionEngine.reloadAfterCommit();
         return billOfMaterialMapper.toResponseDTO(updatedBom);
     }
 
@@ -75,6 +77,7 @@ public class BillOfMaterialService {
                         "Nomenclature non trouvée avec l'ID: " + id));
 
         billOfMaterialRepository.delete(bom);
+        bomExplosionEngine.reloadAfterCommit();
     }
 
     @Transactional(readOnly = true)
@@ -84,6 +87,13 @@ public class BillOfMaterialService {
                 .collect(Collectors.toList());
     }
 
+    @Transactional(readOnly = true)
+    public CursorPageDTO<BillOfMaterialResponseDTO> getBillOfMaterialsPage(String cursor, Integer limit) {
+        List<BillOfMaterial> rows = billOfMaterialRepository.findByIdBOMGreaterThanOrderByIdBOMAsc(
+                CursorCodec.decode(cursor), CursorCodec.fetchLimit(limit));
+        return CursorCodec.page(rows, limit, BillOfMaterial::getIdBOM, billOfMaterialMapper::toResponseDTO);
+    }
+
     @Transactional(readOnly = true)
     public List<BillOfMaterialResponseDTO> getBillOfMaterialsByProduct(Long productId) {
         Product product = productRepository.findById(productId)
@@ -94,4 +104,59 @@ public class BillOfMaterialService {
                 .map(billOfMaterialMapper::toResponseDTO)
                 .collect(Collectors.toList());
     }
+
+    /**
+     * Deux sous-ensembles ajoutés en parallèle (A dans B et B dans A, ou un cycle plus long)
+     * passeraient chacun le contrôle de cycle. Avant toute autre lecture, on verrouille le
+     * parent et tout ce que l'enfant contient déjà : deux lignes qui fermeraient un cycle
+     * ensemble se disputent forcément le parent de l'une d'elles, et la seconde relit les
+     * lignes validées par la première. Ajouter une ligne sous un produit exige son verrou :
+     * une fois tous ces produits verrouillés, ce que l'enfant contient ne peut plus grandir,
+     * on relit donc la portée jusqu'à ce qu'elle soit entièrement verrouillée.
+     */
+    private void lockSubAssemblyWrites(BillOfMaterialRequestDTO dto) {
+        if (dto.getChildProductId() == null) {
+            return;
+        }
+        Set<Long> locked = new HashSet<>();
+        while (true) {
+            Set<Long> scope = bomExplosionEngine.subAssemblyWriteScope(dto.getProductId(), dto.getChildProductId());
+            scope.removeAll(locked);
+            if (scope.isEmpty()) {
+                return;
+            }
+            productRepository.lockForSubAssemblyWrite(scope);
+            locked.addAll(scope);
+        }
+    }
+
+    /**
+     * Une ligne consomme soit une matière première, soit un sous-ensemble. Un sous-ensemble
+     * est refusé s'il contient déjà, directement ou non, le produit de la ligne.
+     */
+    private void setComponent(BillOfMaterial bom, BillOfMaterialRequestDTO dto) {
+        if ((dto.getMaterialId() == null) == (dto.getChildProductId() == null)) {
+            throw new BusinessRuleException(
+                    "Une ligne de nomenclature référence soit une matière première, soit un sous-ensemble");
+        }
+
+        if (dto.getMaterialId() != null) {
+            RawMaterial material = rawMaterialRepository.findById(dto.getMaterialId())
+                    .orElseThrow(() -> new ResourceNotFoundException(
+                            "Matière première non trouvée avec l'ID: " + dto.getMaterialId()));
+            bom.setMaterial(material);
+            bom.setChildProduct(null);
+            return;
+        }
+
+        Product childProduct = productRepository.findById(dto.getChildProductId())
+                .orElseThrow(() -> new ResourceNotFoundException(
+                        "Produit non trouvé avec l'ID: " + dto.getChildProductId()));
+        if (bomExplosionEngine.createsCycle(dto.getProductId(), dto.getChildProductId())) {
+            throw new BusinessRuleException("Le sous-ensemble " + childProduct.getName()
+                    + " contient déjà le produit ID: " + dto.getProductId() + " (cycle de nomenclature)");
+        }
+        bom.setChildProduct(childProduct);
+        bom.setMaterial(null);
+    }
 }
@@ -0,0 +1,163 @@
+package com.supplychainx.production.service;
+
+import com.supplychainx.production.repository.BillOfMaterialRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Explosion multi-niveaux des nomenclatures à partir d'un graphe immuable gardé en mémoire
+ * (voir BomGraph). Le graphe est chargé au démarrage puis remplacé d'un bloc après chaque
+ * écriture de nomenclature validée : les lectures ne touchent jamais bill_of_materials.
+ * Les écritures faites sur un autre nœud sont reprises par un rechargement périodique.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BomExplosionEngine {
+
+    private final BillOfMaterialRepository billOfMaterialRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    private final AtomicReference<Snapshot> snapshot = new AtomicReference<>();
+    private final AtomicLong generation = new AtomicLong();
+    private final Object coldLoadLock = new Object();
+
+    /**
+     * Besoins à plat en matières premières (idMaterial -> quantité) pour produire
+     * quantity unités du produit, sous-ensembles compris.
+     */
+    public Map<Long, Long> explode(Long productId, long quantity) {
+        return requirementsPerUnit(productId).times(quantity);
+    }
+
+    /** Besoins à plat pour une unité du produit, lus dans le graphe courant. */
+    public MaterialRequirements requirementsPerUnit(Long productId) {
+        return graph().requirementsPerUnit(productId);
+    }
+
+    /**
+     * Vrai si ajouter childProductId comme sous-ensemble de productId fermerait un cycle.
+     * Lit les lignes dans la transaction d'écriture en cours (et non le graphe en mémoire)
+     * pour tenir compte de ses propres modifications ; l'appelant doit avoir sérialisé les
+     * écritures de sous-ensembles (voir BillOfMaterialService) avant toute lecture.
+     */
+    public boolean createsCycle(Long productId, Long childProductId) {
+        return BomGraph.of(billOfMaterialRepository.findAllLines()).reaches(childProductId, productId);
+    }
+
+    /**
+     * Produits à verrouiller avant d'ajouter childProductId comme sous-ensemble de productId :
+     * le parent et tout ce que l'enfant contient déjà. Lu dans une transaction séparée sur le
+     * primaire, pour voir les dernières lignes validées sans fixer l'instantané de lecture de
+     * la transaction d'écriture (voir BillOfMaterialService).
+     */
+    public Set<Long> subAssemblyWriteScope(Long productId, Long childProductId) {
+        Set<Long> scope = new HashSet<>(primaryGraph().reachableFrom(childProductId));
+        scope.add(productId);
+        return scope;
+    }
+
+    /**
+     * Reconstruit le graphe après la validation de la transaction courante (ou tout de
+     * suite hors transaction). En cas d'échec, le graphe est écarté et sera rechargé à la
+     * lecture suivante plutôt que de servir une nomenclature périmée.
+     */
+    public void reloadAfterCommit() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    reloadOrDiscard();
+                }
+            });
+        } else {
+            reloadOrDiscard();
+        }
+    }
+
+    @Scheduled(initialDelayString = "${planning.bom.refresh-interval:PT1M}",
+            fixedDelayString = "${planning.bom.refresh-interval:PT1M}")
+    public void refresh() {
+        try {
+            reload(TransactionDefinition.PROPAGATION_REQUIRED);
+        } catch (RuntimeException e) {
+            log.warn("Échec du rechargement périodique du graphe des nomenclatures, graphe courant conservé", e);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        BomGraph graph = reload(TransactionDefinition.PROPAGATION_REQUIRED);
+        log.info("Graphe des nomenclatures chargé : {} produits", graph.productCount());
+    }
+
+    /**
+     * Chargement à froid : un seul appelant charge, les autres attendent son résultat.
+     * Le chargement se fait dans sa propre transaction en écriture, donc sur le primaire :
+     * rejoindre une transaction readOnly de l'appelant, routée vers le réplica, pourrait
+     * installer un graphe en retard jusqu'au prochain rafraîchissement.
+     */
+    private BomGraph graph() {
+        Snapshot current = snapshot.get();
+        if (current != null) {
+            return current.graph();
+        }
+        synchronized (coldLoadLock) {
+            current = snapshot.get();
+            return current != null ? current.graph() : reload(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        }
+    }
+
+    // Appelé après commit : la transaction d'origine est terminée côté base mais encore liée
+    // au thread, d'où REQUIRES_NEW, qui rouvre une transaction en écriture sur le primaire
+    // Seul le graphe antérieur à l'écriture est écarté : un graphe plus récent installé
+    // entre-temps par un autre rechargement reste en place
+    private void reloadOrDiscard() {
+        Snapshot stale = snapshot.get();
+        try {
+            reload(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        } catch (RuntimeException e) {
+            log.warn("Échec du rechargement du graphe des nomenclatures, rechargement à la prochaine lecture", e);
+            snapshot.compareAndSet(stale, null);
+        }
+    }
+
+    private BomGraph primaryGraph() {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        return transaction.execute(status -> BomGraph.of(billOfMaterialRepository.findAllLines()));
+    }
+
+    /**
+     * Charge le graphe ; hors transaction, la transaction ouverte est en écriture et donc
+     * routée vers le primaire. Les chargements concurrents sont départagés par leur
+     * génération, le plus récent l'emporte.
+     */
+    private BomGraph reload(int propagation) {
+        long loadedGeneration = generation.incrementAndGet();
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.setPropagationBehavior(propagation);
+        BomGraph loaded = transaction.execute(status -> BomGraph.of(billOfMaterialRepository.findAllLines()));
+        snapshot.accumulateAndGet(new Snapshot(loadedGeneration, loaded),
+                (previous, next) -> previous != null && previous.generation() > next.generation() ? previous : next);
+        return loaded;
+    }
+
+    private record Snapshot(long generation, BomGraph graph) {
+    }
+}
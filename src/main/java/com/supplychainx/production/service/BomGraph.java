@@ -0,0 +1,142 @@
+package com.supplychainx.production.service;
+
+import com.supplychainx.exception.BusinessRuleException;
+import com.supplychainx.production.dto.BomLineDTO;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Graphe immuable des nomenclatures, construit une fois à partir de toutes les lignes.
+ * Les identifiants de produits sont triés dans un long[] (recherche dichotomique) ; pour
+ * chacun, les besoins à plat par unité (sous-ensembles développés) sont calculés dès la
+ * construction, chaque sous-ensemble partagé n'étant développé qu'une fois.
+ */
+final class BomGraph {
+
+    private final long[] productIds;
+    private final long[][] children;
+    // null pour un produit pris dans un cycle (données modifiées hors application)
+    private final MaterialRequirements[] requirements;
+
+    private BomGraph(long[] productIds, long[][] children, MaterialRequirements[] requirements) {
+        this.productIds = productIds;
+        this.children = children;
+        this.requirements = requirements;
+    }
+
+    static BomGraph of(List<BomLineDTO> lines) {
+        Map<Long, List<BomLineDTO>> linesByProduct = new HashMap<>();
+        for (BomLineDTO line : lines) {
+            linesByProduct.computeIfAbsent(line.getProductId(), id -> new ArrayList<>()).add(line);
+        }
+
+        long[] productIds = linesByProduct.keySet().stream().mapToLong(Long::longValue).sorted().toArray();
+        long[][] children = new long[productIds.length][];
+        MaterialRequirements[] requirements = new MaterialRequirements[productIds.length];
+        Map<Long, MaterialRequirements> flattened = new HashMap<>();
+        for (int i = 0; i < productIds.length; i++) {
+            children[i] = linesByProduct.get(productIds[i]).stream()
+                    .filter(line -> line.getChildProductId() != null)
+                    .mapToLong(BomLineDTO::getChildProductId)
+                    .toArray();
+            requirements[i] = flatten(productIds[i], linesByProduct, flattened, new HashSet<>());
+        }
+        return new BomGraph(productIds, children, requirements);
+    }
+
+    int productCount() {
+        return productIds.length;
+    }
+
+    /**
+     * Besoins en matières premières pour une unité du produit. Vides si le produit n'a
+     * pas de nomenclature.
+     */
+    MaterialRequirements requirementsPerUnit(Long productId) {
+        int index = Arrays.binarySearch(productIds, productId);
+        if (index < 0) {
+            return MaterialRequirements.NONE;
+        }
+        if (requirements[index] == null) {
+            throw new BusinessRuleException(
+                    "Cycle détecté dans la nomenclature du produit ID: " + productId);
+        }
+        return requirements[index];
+    }
+
+    /**
+     * Vrai si target est atteignable depuis from en suivant les sous-ensembles
+     * (from lui-même compris).
+     */
+    boolean reaches(Long from, Long target) {
+        return reachableFrom(from).contains(target);
+    }
+
+    /** Produits atteignables depuis from en suivant les sous-ensembles, from compris. */
+    Set<Long> reachableFrom(Long from) {
+        Set<Long> visited = new HashSet<>();
+        Deque<Long> pending = new ArrayDeque<>();
+        pending.push(from);
+        while (!pending.isEmpty()) {
+            Long current = pending.pop();
+            if (!visited.add(current)) {
+                continue;
+            }
+            int index = Arrays.binarySearch(productIds, current);
+            if (index < 0) {
+                continue;
+            }
+            for (long child : children[index]) {
+                pending.push(child);
+            }
+        }
+        return visited;
+    }
+
+    /** Retourne null si le produit est pris dans un cycle. */
+    private static MaterialRequirements flatten(Long productId, Map<Long, List<BomLineDTO>> linesByProduct,
+                                                Map<Long, MaterialRequirements> flattened, Set<Long> path) {
+        MaterialRequirements cached = flattened.get(productId);
+        if (cached != null) {
+            return cached;
+        }
+        List<BomLineDTO> lines = linesByProduct.get(productId);
+        if (lines == null) {
+            return MaterialRequirements.NONE;
+        }
+        if (!path.add(productId)) {
+            return null;
+        }
+
+        Map<Long, Long> perUnit = new LinkedHashMap<>();
+        for (BomLineDTO line : lines) {
+            long quantity = line.getQuantity();
+            if (line.getMaterialId() != null) {
+                perUnit.merge(line.getMaterialId(), quantity, Math::addExact);
+                continue;
+            }
+            MaterialRequirements child = flatten(line.getChildProductId(), linesByProduct, flattened, path);
+            if (child == null) {
+                path.remove(productId);
+                return null;
+            }
+            for (int i = 0; i < child.size(); i++) {
+                perUnit.merge(child.materialId(i), Math.multiplyExact(child.quantityPerUnit(i), quantity), Math::addExact);
+            }
+        }
+        path.remove(productId);
+
+        MaterialRequirements result = MaterialRequirements.of(perUnit);
+        flattened.put(productId, result);
+        return result;
+    }
+}
@@ -0,0 +1,64 @@
+package com.supplychainx.production.service;
+
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Besoins à plat d'un produit pour une unité : couples (idMaterial, quantité) rangés dans
+ * deux tableaux parallèles, dans l'ordre des lignes de nomenclature. Immuable.
+ */
+public final class MaterialRequirements {
+
+    static final MaterialRequirements NONE = new MaterialRequirements(new long[0], new long[0]);
+
+    private final long[] materialIds;
+    private final long[] quantities;
+
+    MaterialRequirements(long[] materialIds, long[] quantities) {
+        this.materialIds = materialIds;
+        this.quantities = quantities;
+    }
+
+    static MaterialRequirements of(Map<Long, Long> perUnit) {
+        long[] materialIds = new long[perUnit.size()];
+        long[] quantities = new long[perUnit.size()];
+        int index = 0;
+        for (Map.Entry<Long, Long> entry : perUnit.entrySet()) {
+            materialIds[index] = entry.getKey();
+            quantities[index] = entry.getValue();
+            index++;
+        }
+        return new MaterialRequirements(materialIds, quantities);
+    }
+
+    public int size() {
+        return materialIds.length;
+    }
+
+    public long materialId(int index) {
+        return materialIds[index];
+    }
+
+    public long quantityPerUnit(int index) {
+        return quantities[index];
+    }
+
+    public Set<Long> materialIds() {
+        Set<Long> ids = new HashSet<>(materialIds.length * 2);
+        for (long materialId : materialIds) {
+            ids.add(materialId);
+        }
+        return ids;
+    }
+
+    /** Besoins pour quantity unités (idMaterial -> quantité), dans l'ordre des lignes. */
+    public Map<Long, Long> times(long quantity) {
+        Map<Long, Long> required = new LinkedHashMap<>(materialIds.length * 2);
+        for (int i = 0; i < materialIds.length; i++) {
+            required.put(materialIds[i], Math.multiplyExact(quantities[i], quantity));
+        }
+        return required;
+    }
+}
@@ -0,0 +1,241 @@
+package com.supplychainx.production.service;
+
+import com.supplychainx.approvisionnement.dto.PendingSupplyRowDTO;
+import com.supplychainx.approvisionnement.entity.RawMaterial;
+import com.supplychainx.approvisionnement.enums.SupplyOrderStatus;
+import com.supplychainx.approvisionnement.repository.RawMaterialRepository;
+import com.supplychainx.approvisionnement.repository.SupplyOrderRepository;
+import com.supplychainx.exception.BusinessRuleException;
+import com.supplychainx.exception.ResourceNotFoundException;
+import com.supplychainx.production.dto.MaterialShortageDTO;
+import com.supplychainx.production.dto.MrpBucketDTO;
+import com.supplychainx.production.dto.MrpResultDTO;
+import com.supplychainx.production.dto.OpenProductionOrderRowDTO;
+import com.supplychainx.production.dto.PendingSupplyDTO;
+import com.supplychainx.production.enums.ProductionOrderStatus;
+import com.supplychainx.production.repository.ProductionOrderRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Calcul MRP périodique : les ordres de production ouverts sont développés via le graphe
+ * des nomenclatures, la demande est cumulée dans un long[] (matière x seau de bucketDays
+ * jours) puis confrontée au stock pour dater les pénuries. Le dernier résultat est gardé
+ * en mémoire et servi par /api/planning/mrp. Les calculs sont sérialisés par un verrou pris
+ * hors de la transaction de lecture : un calcul ne démarre qu'une fois le précédent validé
+ * et publié.
+ */
+@Slf4j
+@Service
+public class MrpService {
+
+    private static final List<ProductionOrderStatus> OPEN_ORDERS =
+            List.of(ProductionOrderStatus.EN_ATTENTE, ProductionOrderStatus.EN_PRODUCTION);
+    private static final List<SupplyOrderStatus> PENDING_SUPPLIES =
+            List.of(SupplyOrderStatus.EN_ATTENTE, SupplyOrderStatus.EN_COURS);
+
+    private final ProductionOrderRepository productionOrderRepository;
+    private final SupplyOrderRepository supplyOrderRepository;
+    private final RawMaterialRepository rawMaterialRepository;
+    private final BomExplosionEngine bomExplosionEngine;
+    private final TransactionTemplate readOnlyTransaction;
+    private final ReentrantLock runLock = new ReentrantLock();
+    private final int horizonDays;
+    private final int bucketDays;
+
+    private volatile MrpResultDTO latest;
+
+    public MrpService(
+            ProductionOrderRepository productionOrderRepository,
+            SupplyOrderRepository supplyOrderRepository,
+            RawMaterialRepository rawMaterialRepository,
+            BomExplosionEngine bomExplosionEngine,
+            PlatformTransactionManager transactionManager,
+            @Value("${planning.mrp.horizon-days:90}") int horizonDays,
+            @Value("${planning.mrp.bucket-days:1}") int bucketDays) {
+        if (horizonDays < 1 || bucketDays < 1) {
+            throw new IllegalArgumentException("planning.mrp.horizon-days et planning.mrp.bucket-days doivent être positifs");
+        }
+        this.productionOrderRepository = productionOrderRepository;
+        this.supplyOrderRepository = supplyOrderRepository;
+        this.rawMaterialRepository = rawMaterialRepository;
+        this.bomExplosionEngine = bomExplosionEngine;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.horizonDays = horizonDays;
+        this.bucketDays = bucketDays;
+    }
+
+    public MrpResultDTO getLatest() {
+        MrpResultDTO result = latest;
+        if (result == null) {
+            throw new ResourceNotFoundException("Aucun calcul MRP disponible pour le moment");
+        }
+        return result;
+    }
+
+    // Premier calcul dès le démarrage : sans lui, /api/planning/mrp répondrait 404 jusqu'à
+    // la première exécution planifiée. Un échec est journalisé, le calcul planifié prendra le relais
+    @EventListener(ApplicationReadyEvent.class)
+    public void runAtStartup() {
+        try {
+            run();
+        } catch (RuntimeException e) {
+            log.warn("Échec du calcul MRP au démarrage, nouvel essai à la prochaine exécution planifiée", e);
+        }
+    }
+
+    @Scheduled(initialDelayString = "${planning.mrp.interval:PT15M}",
+            fixedDelayString = "${planning.mrp.interval:PT15M}")
+    public MrpResultDTO run() {
+        runLock.lock();
+        try {
+            MrpResultDTO result = readOnlyTransaction.execute(status -> compute());
+            latest = result;
+            return result;
+        } finally {
+            runLock.unlock();
+        }
+    }
+
+    private MrpResultDTO compute() {
+        long started = System.nanoTime();
+        LocalDate today = LocalDate.now();
+        int buckets = (horizonDays + bucketDays - 1) / bucketDays;
+
+        // 1. Explosion : besoins unitaires de chaque ordre et index dense des matières
+        List<OpenProductionOrderRowDTO> orders = productionOrderRepository.findRowsByStatusIn(OPEN_ORDERS);
+        MaterialRequirements[] requirements = new MaterialRequirements[orders.size()];
+        int[] orderBuckets = new int[orders.size()];
+        Map<Long, Integer> materialIndex = new HashMap<>();
+        List<Long> materialIds = new ArrayList<>();
+        int netted = 0;
+        int skipped = 0;
+        for (int i = 0; i < orders.size(); i++) {
+            OpenProductionOrderRowDTO order = orders.get(i);
+            orderBuckets[i] = bucketOf(order.getStartDate(), today);
+            if (orderBuckets[i] >= buckets) {
+                continue;
+            }
+            try {
+                requirements[i] = bomExplosionEngine.requirementsPerUnit(order.getProductId());
+            } catch (BusinessRuleException e) {
+                skipped++;
+                continue;
+            }
+            netted++;
+            for (int j = 0; j < requirements[i].size(); j++) {
+                materialIndex.computeIfAbsent(requirements[i].materialId(j), id -> {
+                    materialIds.add(id);
+                    return materialIds.size() - 1;
+                });
+            }
+        }
+
+        // 2. Demande brute par (matière, seau)
+        long[] demand = new long[materialIds.size() * buckets];
+        for (int i = 0; i < orders.size(); i++) {
+            MaterialRequirements perUnit = requirements[i];
+            if (perUnit == null) {
+                continue;
+            }
+            long quantity = orders.get(i).getQuantity();
+            for (int j = 0; j < perUnit.size(); j++) {
+                int slot = materialIndex.get(perUnit.materialId(j)) * buckets + orderBuckets[i];
+                demand[slot] = Math.addExact(demand[slot], Math.multiplyExact(perUnit.quantityPerUnit(j), quantity));
+            }
+        }
+
+        // 3. Stock projeté seau par seau, pénuries datées
+        Map<Long, RawMaterial> materials = rawMaterialRepository.findAllById(materialIds).stream()
+                .collect(Collectors.toMap(RawMaterial::getIdMaterial, Function.identity()));
+        Map<Long, List<PendingSupplyDTO>> pendingSupplies = pendingSupplies(materialIndex);
+        List<MaterialShortageDTO> shortages = new ArrayList<>();
+        for (int m = 0; m < materialIds.size(); m++) {
+            RawMaterial material = materials.get(materialIds.get(m));
+            long projected = material.getStock();
+            long totalDemand = 0;
+            List<MrpBucketDTO> shortageBuckets = new ArrayList<>();
+            for (int b = 0; b < buckets; b++) {
+                long bucketDemand = demand[m * buckets + b];
+                if (bucketDemand == 0) {
+                    continue;
+                }
+                projected -= bucketDemand;
+                totalDemand += bucketDemand;
+                if (projected < 0) {
+                    shortageBuckets.add(new MrpBucketDTO(today.plusDays((long) b * bucketDays), bucketDemand, projected));
+                }
+            }
+            if (!shortageBuckets.isEmpty()) {
+                shortages.add(new MaterialShortageDTO(
+                        material.getIdMaterial(),
+                        material.getName(),
+                        material.getStock(),
+                        totalDemand,
+                        shortageBuckets.get(0).getDate(),
+                        shortageBuckets,
+                        pendingSupplies.getOrDefault(material.getIdMaterial(), List.of())
+                ));
+            }
+        }
+        shortages.sort(Comparator.comparing(MaterialShortageDTO::getFirstShortageDate)
+                .thenComparing(MaterialShortageDTO::getIdMaterial));
+
+        long durationMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+        MrpResultDTO result = new MrpResultDTO(
+                LocalDateTime.now(),
+                today,
+                today.plusDays((long) buckets * bucketDays - 1),
+                bucketDays,
+                netted,
+                skipped,
+                durationMillis,
+                shortages
+        );
+        log.info("Calcul MRP : {} ordres, {} matières, {} pénuries en {} ms",
+                netted, materialIds.size(), shortages.size(), durationMillis);
+        return result;
+    }
+
+    // Un ordre sans date ou en retard consomme dès le premier seau
+    private int bucketOf(LocalDate startDate, LocalDate today) {
+        if (startDate == null || !startDate.isAfter(today)) {
+            return 0;
+        }
+        long days = ChronoUnit.DAYS.between(today, startDate);
+        return (int) Math.min(Integer.MAX_VALUE, days / bucketDays);
+    }
+
+    private Map<Long, List<PendingSupplyDTO>> pendingSupplies(Map<Long, Integer> materialIndex) {
+        Map<Long, List<PendingSupplyDTO>> pending = new HashMap<>();
+        for (PendingSupplyRowDTO row : supplyOrderRepository.findPendingRowsByStatusIn(PENDING_SUPPLIES)) {
+            if (!materialIndex.containsKey(row.getMaterialId())) {
+                continue;
+            }
+            LocalDate expectedDate = row.getLeadTime() == null ? null : row.getOrderDate().plusDays(row.getLeadTime());
+            pending.computeIfAbsent(row.getMaterialId(), id -> new ArrayList<>())
+                    .add(new PendingSupplyDTO(row.getIdSupplyOrder(), expectedDate));
+        }
+        return pending;
+    }
+}
@@ -1,64 +1,224 @@
 package com.supplychainx.production.service;
 
+import com.supplychainx.approvisionnement.entity.RawMaterial;
+import com.supplychainx.approvisionnement.repository.RawMaterialRepository;
+import com.supplychainx.exception.BusinessRuleException;
 import com.supplychainx.exception.ResourceNotFoundException;
+import com.supplychainx.production.dto.BatchAvailabilityRequestDTO;
+import com.supplychainx.production.dto.BatchAvailabilityResponseDTO;
 import com.supplychainx.production.dto.MaterialAvailabilityDTO;
+import com.supplychainx.production.dto.MaxProducibleResponseDTO;
+import com.supplychainx.production.dto.ProductQuantityDTO;
 import com.supplychainx.production.dto.ProductionAvailabilityResponseDTO;
 import com.supplychainx.production.dto.ProductionTimeResponseDTO;
-import com.supplychainx.production.entity.BillOfMaterial;
 import com.supplychainx.production.entity.Product;
-import com.supplychainx.production.repository.BillOfMaterialRepository;
 import com.supplychainx.production.repository.ProductRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class PlanningService {
     
     private final ProductRepository productRepository;
-    private final BillOfMaterialRepository billOfMaterialRepository;
+    private final RawMaterialRepository rawMaterialRepository;
+    private final BomExplosionEngine bomExplosionEngine;
     
+    /**
+     * Disponibilité des matières pour quantity unités du produit, sous-ensembles compris :
+     * les besoins à plat viennent du graphe en mémoire de BomExplosionEngine, seuls les
+     * stocks sont lus en base.
+     */
     @Transactional(readOnly = true)
     public ProductionAvailabilityResponseDTO checkMaterialAvailability(Long productId, Integer quantity) {
         Product product = productRepository.findById(productId)
                 .orElseThrow(() -> new ResourceNotFoundException(
                         "Produit non trouvé avec l'ID: " + productId));
         
-        List<BillOfMaterial> bom = billOfMaterialRepository.findByProduct(product);
-        
-        List<MaterialAvailabilityDTO> materialsStatus = new ArrayList<>();
-        boolean canProduce = true;
-        
-        for (BillOfMaterial bomItem : bom) {
-            Integer requiredQuantity = bomItem.getQuantity() * quantity;
-            Integer availableStock = bomItem.getMaterial().getStock();
-            boolean isAvailable = availableStock >= requiredQuantity;
-            
-            materialsStatus.add(new MaterialAvailabilityDTO(
-                    bomItem.getMaterial().getIdMaterial(),
-                    bomItem.getMaterial().getName(),
-                    requiredQuantity,
-                    availableStock,
-                    isAvailable
-            ));
-            
-            if (!isAvailable) {
-                canProduce = false;
+        Map<Long, Long> required = explode(productId, quantity);
+        return availability(product, quantity, required, loadMaterials(required.keySet()));
+    }
+
+    /**
+     * Vérification groupée : produits et matières sont chargés en une requête chacun, les
+     * nomenclatures viennent du graphe en mémoire de BomExplosionEngine. En plus du statut de
+     * chaque produit, la demande cumulée indique si l'ensemble peut être produit ensemble.
+     */
+    @Transactional(readOnly = true)
+    public BatchAvailabilityResponseDTO checkBatchAvailability(BatchAvailabilityRequestDTO dto) {
+        List<ProductQuantityDTO> items = dto.getItems();
+        Map<Long, Product> products = productRepository.findAllById(items.stream()
+                        .map(ProductQuantityDTO::getProductId).collect(Collectors.toSet())).stream()
+                .collect(Collectors.toMap(Product::getIdProduct, Function.identity()));
+
+        List<Map<Long, Long>> requirements = new ArrayList<>(items.size());
+        Map<Long, Long> combined = new LinkedHashMap<>();
+        for (ProductQuantityDTO item : items) {
+            if (!products.containsKey(item.getProductId())) {
+                throw new ResourceNotFoundException("Produit non trouvé avec l'ID: " + item.getProductId());
             }
+            Map<Long, Long> required = explode(item.getProductId(), item.getQuantity());
+            required.forEach((materialId, quantity) -> combined.merge(materialId, quantity, PlanningService::addDemand));
+            requirements.add(required);
         }
-        
+
+        Map<Long, RawMaterial> materials = loadMaterials(combined.keySet());
+        List<ProductionAvailabilityResponseDTO> statuses = new ArrayList<>(items.size());
+        for (int i = 0; i < items.size(); i++) {
+            ProductQuantityDTO item = items.get(i);
+            statuses.add(availability(products.get(item.getProductId()), item.getQuantity(),
+                    requirements.get(i), materials));
+        }
+
+        List<MaterialAvailabilityDTO> combinedDemand = materialsStatus(combined, materials);
+        return new BatchAvailabilityResponseDTO(statuses, combinedDemand, allAvailable(combinedDemand));
+    }
+
+    /**
+     * Quantité maximale productible avec le stock actuel : un seul parcours des besoins à
+     * plat, le minimum de stock / besoin unitaire désigne la matière goulot.
+     */
+    @Transactional(readOnly = true)
+    public MaxProducibleResponseDTO getMaxProducible(Long productId) {
+        Product product = productRepository.findById(productId)
+                .orElseThrow(() -> new ResourceNotFoundException(
+                        "Produit non trouvé avec l'ID: " + productId));
+
+        MaterialRequirements perUnit = bomExplosionEngine.requirementsPerUnit(productId);
+        return maxProducible(product, perUnit, loadMaterials(perUnit.materialIds()));
+    }
+
+    /**
+     * Quantité maximale productible pour une liste de produits, chacun considéré seul,
+     * triée par valeur productible (quantité maximale x coût unitaire) décroissante.
+     * Les produits sans nomenclature arrivent en dernier.
+     */
+    @Transactional(readOnly = true)
+    public List<MaxProducibleResponseDTO> rankByProducibleValue(List<Long> productIds) {
+        Set<Long> ids = new LinkedHashSet<>(productIds);
+        Map<Long, Product> products = productRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(Product::getIdProduct, Function.identity()));
+
+        Map<Long, MaterialRequirements> perUnitByProduct = new LinkedHashMap<>();
+        Set<Long> materialIds = new HashSet<>();
+        for (Long id : ids) {
+            if (!products.containsKey(id)) {
+                throw new ResourceNotFoundException("Produit non trouvé avec l'ID: " + id);
+            }
+            MaterialRequirements perUnit = bomExplosionEngine.requirementsPerUnit(id);
+            perUnitByProduct.put(id, perUnit);
+            materialIds.addAll(perUnit.materialIds());
+        }
+
+        Map<Long, RawMaterial> materials = loadMaterials(materialIds);
+        return perUnitByProduct.entrySet().stream()
+                .map(entry -> maxProducible(products.get(entry.getKey()), entry.getValue(), materials))
+                .sorted(Comparator.comparing(MaxProducibleResponseDTO::getProducibleValue,
+                        Comparator.nullsLast(Comparator.reverseOrder())))
+                .collect(Collectors.toList());
+    }
+
+    private MaxProducibleResponseDTO maxProducible(Product product, MaterialRequirements perUnit,
+                                                   Map<Long, RawMaterial> materials) {
+        long maxQuantity = Long.MAX_VALUE;
+        RawMaterial bottleneck = null;
+        for (int i = 0; i < perUnit.size(); i++) {
+            RawMaterial material = materials.get(perUnit.materialId(i));
+            long producible = Math.max(0, material.getStock()) / perUnit.quantityPerUnit(i);
+            if (producible < maxQuantity) {
+                maxQuantity = producible;
+                bottleneck = material;
+            }
+        }
+
+        if (bottleneck == null) {
+            return new MaxProducibleResponseDTO(product.getIdProduct(), product.getName(), null, null, null, null);
+        }
+        return new MaxProducibleResponseDTO(
+                product.getIdProduct(),
+                product.getName(),
+                (int) maxQuantity,
+                bottleneck.getIdMaterial(),
+                bottleneck.getName(),
+                maxQuantity * product.getCost()
+        );
+    }
+
+    private ProductionAvailabilityResponseDTO availability(Product product, Integer quantity,
+                                                           Map<Long, Long> required,
+                                                           Map<Long, RawMaterial> materials) {
+        List<MaterialAvailabilityDTO> materialsStatus = materialsStatus(required, materials);
         return new ProductionAvailabilityResponseDTO(
                 product.getIdProduct(),
                 product.getName(),
                 quantity,
-                canProduce,
+                allAvailable(materialsStatus),
                 materialsStatus
         );
     }
+
+    private List<MaterialAvailabilityDTO> materialsStatus(Map<Long, Long> required,
+                                                          Map<Long, RawMaterial> materials) {
+        List<MaterialAvailabilityDTO> materialsStatus = new ArrayList<>(required.size());
+        for (Map.Entry<Long, Long> entry : required.entrySet()) {
+            RawMaterial material = materials.get(entry.getKey());
+            long demand = entry.getValue();
+            if (demand > Integer.MAX_VALUE) {
+                throw new BusinessRuleException("Besoin en " + material.getName() + " trop élevé pour être calculé : "
+                        + demand + " (maximum " + Integer.MAX_VALUE + ")");
+            }
+            Integer requiredQuantity = (int) demand;
+            Integer availableStock = material.getStock();
+            
+            materialsStatus.add(new MaterialAvailabilityDTO(
+                    material.getIdMaterial(),
+                    material.getName(),
+                    requiredQuantity,
+                    availableStock,
+                    availableStock >= requiredQuantity
+            ));
+        }
+        return materialsStatus;
+    }
+
+    // Les besoins sont calculés en long : un dépassement est une demande irréaliste, donc une erreur 400
+    private Map<Long, Long> explode(Long productId, Integer quantity) {
+        try {
+            return bomExplosionEngine.explode(productId, quantity);
+        } catch (ArithmeticException e) {
+            throw new BusinessRuleException("Quantité trop élevée pour le produit " + productId + " : " + quantity);
+        }
+    }
+
+    private static long addDemand(long current, long added) {
+        try {
+            return Math.addExact(current, added);
+        } catch (ArithmeticException e) {
+            throw new BusinessRuleException("Demande cumulée trop élevée pour être calculée");
+        }
+    }
+
+    private static boolean allAvailable(List<MaterialAvailabilityDTO> materialsStatus) {
+        return materialsStatus.stream().allMatch(MaterialAvailabilityDTO::getIsAvailable);
+    }
+
+    private Map<Long, RawMaterial> loadMaterials(Collection<Long> materialIds) {
+        return rawMaterialRepository.findAllById(materialIds).stream()
+                .collect(Collectors.toMap(RawMaterial::getIdMaterial, Function.identity()));
+    }
     
 
     @Transactional(readOnly = true)
@@ -1,6 +1,10 @@
 package com.supplychainx.production.service;
 
+import com.supplychainx.common.dto.CursorPageDTO;
+import com.supplychainx.common.pagination.CursorCodec;
+import com.supplychainx.common.retry.RetryOnOptimisticLock;
 import com.supplychainx.exception.BusinessRuleException;
+import com.supplychainx.exception.ConflictException;
 import com.supplychainx.exception.ResourceNotFoundException;
 import com.supplychainx.production.dto.ProductCreateDTO;
 import com.supplychainx.production.dto.ProductResponseDTO;
@@ -40,16 +44,38 @@ public class ProductService {
         Product product = productRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException(
                         "Produit non trouvé avec l'ID: " + id));
+        if (!product.getVersion().equals(dto.getVersion())) {
+            throw new ConflictException("Le produit " + id + " a été modifié depuis sa lecture (version "
+                    + dto.getVersion() + " envoyée, " + product.getVersion() + " actuelle)");
+        }
 
         product.setName(dto.getName());
         product.setProductionTime(dto.getProductionTime());
         product.setCost(dto.getCost());
         product.setStock(dto.getStock());
 
-        Product updatedProduct = productRepository.save(product);
+        // Flush avant le mapping : la réponse porte la version incrémentée par cette écriture
+        Product updatedProduct = productRepository.saveAndFlush(product);
         return convertToDTO(updatedProduct);
     }
 
+    @RetryOnOptimisticLock
+    @Transactional
+    public ProductResponseDTO adjustStock(Long id, int delta) {
+        Product product = productRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException(
+                        "Produit non trouvé avec l'ID: " + id));
+
+        int newStock = product.getStock() + delta;
+        if (newStock < 0) {
+            throw new BusinessRuleException(
+                    "Stock insuffisant pour le produit " + product.getName() + " : " + product.getStock() + " disponible(s)");
+        }
+        product.setStock(newStock);
+
+        return convertToDTO(productRepository.saveAndFlush(product));
+    }
+
     @Transactional
     public void deleteProduct(Long id) {
         Product product = productRepository.findById(id)
@@ -73,6 +99,13 @@ public class ProductService {
                 .collect(Collectors.toList());
     }
 
+    @Transactional(readOnly = true)
+    public CursorPageDTO<ProductResponseDTO> getProductsPage(String cursor, Integer limit) {
+        List<Product> rows = productRepository.findByIdProductGreaterThanOrderByIdProductAsc(
+                CursorCodec.decode(cursor), CursorCodec.fetchLimit(limit));
+        return CursorCodec.page(rows, limit, Product::getIdProduct, this::convertToDTO);
+    }
+
     @Transactional(readOnly = true)
     public List<ProductResponseDTO> searchProductsByName(String name) {
         return productRepository.findByNameContainingIgnoreCase(name).stream()
@@ -87,6 +120,7 @@ public class ProductService {
         dto.setProductionTime(product.getProductionTime());
         dto.setCost(product.getCost());
         dto.setStock(product.getStock());
+        dto.setVersion(product.getVersion());
         return dto;
     }
 }
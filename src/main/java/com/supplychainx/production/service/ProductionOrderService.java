@@ -1,5 +1,7 @@
 package com.supplychainx.production.service;
 
+import com.supplychainx.common.dto.CursorPageDTO;
+import com.supplychainx.common.pagination.CursorCodec;
 import com.supplychainx.exception.BusinessRuleException;
 import com.supplychainx.exception.ResourceNotFoundException;
 import com.supplychainx.mapper.ProductMapper;
@@ -86,6 +88,16 @@ public class ProductionOrderService {
                 .collect(Collectors.toList());
     }
 
+    @Transactional(readOnly = true)
+    public CursorPageDTO<ProductionOrderResponseDTO> getProductionOrdersPage(String cursor, Integer limit, String status) {
+        Long afterId = CursorCodec.decode(cursor);
+        List<ProductionOrder> rows = status == null
+                ? productionOrderRepository.findByIdOrderGreaterThanOrderByIdOrderAsc(afterId, CursorCodec.fetchLimit(limit))
+                : productionOrderRepository.findByStatusAndIdOrderGreaterThanOrderByIdOrderAsc(
+                        ProductionOrderStatus.valueOf(status), afterId, CursorCodec.fetchLimit(limit));
+        return CursorCodec.page(rows, limit, ProductionOrder::getIdOrder, productionOrderMapper::toResponseDTO);
+    }
+
     @Transactional(readOnly = true)
     public List<ProductionOrderResponseDTO> getProductionOrdersByStatus(String status) {
         ProductionOrderStatus orderStatus = ProductionOrderStatus.valueOf(status);
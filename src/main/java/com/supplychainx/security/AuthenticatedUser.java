@@ -0,0 +1,22 @@
+package com.supplychainx.security;
+
+import com.supplychainx.common.entity.User;
+import com.supplychainx.common.enums.UserRole;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Identité minimale de l'appelant, résolue soit par email/mot de passe,
+ * soit par un jeton signé.
+ */
+@Getter
+@AllArgsConstructor
+public class AuthenticatedUser {
+
+    private final Long idUser;
+    private final UserRole role;
+
+    public static AuthenticatedUser from(User user) {
+        return new AuthenticatedUser(user.getIdUser(), user.getRole());
+    }
+}
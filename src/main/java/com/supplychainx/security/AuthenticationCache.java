@@ -0,0 +1,92 @@
+package com.supplychainx.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.supplychainx.common.entity.User;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * Cache borné des identifiants déjà vérifiés par BCrypt.
+ * La clé est l'email normalisé, comme dans KnownEmailFilter et LoginAttemptLimiter : la
+ * collation MySQL ignore la casse, l'email saisi et l'email stocké doivent donc désigner la
+ * même entrée. La valeur garde un condensé SHA-256 du mot de passe (jamais le mot de passe
+ * en clair) et l'utilisateur authentifié.
+ */
+@Component
+public class AuthenticationCache {
+
+    private final Cache<String, VerifiedCredential> cache;
+
+    public AuthenticationCache(
+            @Value("${security.auth-cache.maximum-size:10000}") long maximumSize,
+            @Value("${security.auth-cache.ttl:5m}") Duration ttl,
+            MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "auth.credentials");
+    }
+
+    public Optional<User> get(String email, String password) {
+        VerifiedCredential credential = cache.getIfPresent(normalize(email));
+        if (credential == null || !MessageDigest.isEqual(credential.digest(), digest(password))) {
+            return Optional.empty();
+        }
+        return Optional.of(credential.user());
+    }
+
+    public void put(String email, String password, User user) {
+        cache.put(normalize(email), new VerifiedCredential(digest(password), user));
+    }
+
+    public void evict(String email) {
+        cache.invalidate(normalize(email));
+    }
+
+    /**
+     * Éviction après validation de la transaction courante (ou immédiate hors transaction) :
+     * évincer avant le commit laisserait une authentification concurrente relire l'ancien
+     * rôle et le remettre en cache.
+     */
+    public void evictAfterCommit(String email) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict(email);
+                }
+            });
+        } else {
+            evict(email);
+        }
+    }
+
+    private static String normalize(String email) {
+        return email.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static byte[] digest(String password) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(password.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 indisponible", e);
+        }
+    }
+
+    private record VerifiedCredential(byte[] digest, User user) {
+    }
+}
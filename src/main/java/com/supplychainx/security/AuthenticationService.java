@@ -5,18 +5,29 @@ import com.supplychainx.common.enums.UserRole;
 import com.supplychainx.common.repository.UserRepository;
 import com.supplychainx.exception.UnauthorizedException;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
+import java.util.Optional;
 
+
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class AuthenticationService {
 
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final AuthenticationCache authenticationCache;
+    private final LoginAttemptLimiter loginAttemptLimiter;
+    private final KnownEmailFilter knownEmailFilter;
 
     public User authenticate(String email, String password) {
+        return authenticate(email, password, null);
+    }
+
+    public User authenticate(String email, String password, String clientAddress) {
         if (email == null || email.trim().isEmpty()) {
             throw new UnauthorizedException("Email est requis dans le header");
         }
@@ -25,27 +36,68 @@ public class AuthenticationService {
             throw new UnauthorizedException("Mot de passe est requis dans le header");
         }
 
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new UnauthorizedException("Email ou mot de passe incorrect"));
+        // Le cache passe avant le limiteur : des échecs provoqués par un tiers ne bloquent pas
+        // un utilisateur dont le mot de passe a déjà été vérifié. Un condensé différent
+        // retombe sur le limiteur, le cache n'offre donc pas d'essais supplémentaires.
+        Optional<User> cachedUser = authenticationCache.get(email, password);
+        if (cachedUser.isPresent()) {
+            return cachedUser.get();
+        }
+
+        loginAttemptLimiter.checkAllowed(email, clientAddress);
+
+        if (knownEmailFilter.definitelyAbsent(email)) {
+            loginAttemptLimiter.recordFailure(email, clientAddress);
+            throw new UnauthorizedException("Email ou mot de passe incorrect");
+        }
 
-        if (!passwordEncoder.matches(password, user.getPassword())) {
+        Optional<User> user = userRepository.findByEmail(email);
+        if (user.isEmpty()) {
+            knownEmailFilter.recordLookupMiss();
+        }
+        if (user.isEmpty() || !passwordEncoder.matches(password, user.get().getPassword())) {
+            loginAttemptLimiter.recordFailure(email, clientAddress);
             throw new UnauthorizedException("Email ou mot de passe incorrect");
         }
 
-        return user;
+        loginAttemptLimiter.reset(email);
+        rehashIfNeeded(user.get(), password);
+        authenticationCache.put(email, password, user.get());
+        return user.get();
     }
 
     public void checkRole(User user, UserRole[] requiredRoles) {
-        if (user.getRole() == UserRole.ADMIN) {
+        checkRole(user.getRole(), requiredRoles);
+    }
+
+    public void checkRole(UserRole userRole, UserRole[] requiredRoles) {
+        if (userRole == UserRole.ADMIN) {
             return;
         }
 
         for (UserRole role : requiredRoles) {
-            if (user.getRole() == role) {
+            if (userRole == role) {
                 return;
             }
         }
 
         throw new UnauthorizedException("Vous n'avez pas la permission d'accéder à cette ressource");
     }
+
+    /**
+     * Le mot de passe en clair n'est disponible qu'ici : on en profite pour réaligner
+     * un hash stocké avec un coût BCrypt différent du coût courant, plus faible ou plus élevé.
+     */
+    private void rehashIfNeeded(User user, String password) {
+        if (!passwordEncoder.upgradeEncoding(user.getPassword())) {
+            return;
+        }
+        try {
+            user.setPassword(passwordEncoder.encode(password));
+            userRepository.save(user);
+        } catch (RuntimeException e) {
+            // La connexion reste valide : le hash sera régénéré à la prochaine connexion
+            log.warn("Échec de la mise à jour du hash pour l'utilisateur {}", user.getIdUser(), e);
+        }
+    }
 }
@@ -0,0 +1,84 @@
+package com.supplychainx.security;
+
+import com.supplychainx.common.enums.UserRole;
+import com.supplychainx.exception.UnauthorizedException;
+import org.springframework.beans.factory.ListableBeanFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Table Method → rôles autorisés construite au démarrage à partir des {@link RequiresRole}
+ * des contrôleurs. ADMIN est déjà inclus dans chaque ensemble : la vérification
+ * à l'exécution se réduit à une recherche dans la map et un test de bit.
+ */
+@Component
+public class AuthorizationTable implements SmartInitializingSingleton {
+
+    private final ListableBeanFactory beanFactory;
+    private volatile Map<Method, EnumSet<UserRole>> allowedRoles = Map.of();
+
+    public AuthorizationTable(ListableBeanFactory beanFactory) {
+        this.beanFactory = beanFactory;
+    }
+
+    static AuthorizationTable forControllers(Class<?>... controllerClasses) {
+        AuthorizationTable table = new AuthorizationTable(null);
+        table.allowedRoles = scan(Arrays.asList(controllerClasses));
+        return table;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        List<Class<?>> controllerClasses = Arrays.stream(beanFactory.getBeanNamesForAnnotation(RestController.class))
+                .<Class<?>>map(beanFactory::getType)
+                .filter(type -> type != null)
+                .map(ClassUtils::getUserClass)
+                .toList();
+        allowedRoles = scan(controllerClasses);
+    }
+
+    public void check(Method method, UserRole role) {
+        EnumSet<UserRole> roles = allowedRoles.get(method);
+        if (roles == null) {
+            roles = allowedRoles(method.getAnnotation(RequiresRole.class));
+        }
+        if (!roles.contains(role)) {
+            throw new UnauthorizedException("Vous n'avez pas la permission d'accéder à cette ressource");
+        }
+    }
+
+    int size() {
+        return allowedRoles.size();
+    }
+
+    private static Map<Method, EnumSet<UserRole>> scan(List<Class<?>> controllerClasses) {
+        Map<Method, EnumSet<UserRole>> table = new HashMap<>();
+        for (Class<?> controllerClass : controllerClasses) {
+            for (Method method : ReflectionUtils.getUniqueDeclaredMethods(controllerClass)) {
+                RequiresRole requiresRole = method.getAnnotation(RequiresRole.class);
+                if (requiresRole != null) {
+                    table.put(method, allowedRoles(requiresRole));
+                }
+            }
+        }
+        return Map.copyOf(table);
+    }
+
+    private static EnumSet<UserRole> allowedRoles(RequiresRole requiresRole) {
+        EnumSet<UserRole> roles = EnumSet.of(UserRole.ADMIN);
+        if (requiresRole != null) {
+            roles.addAll(Arrays.asList(requiresRole.value()));
+        }
+        return roles;
+    }
+}
@@ -0,0 +1,54 @@
+package com.supplychainx.security;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.time.Duration;
+import java.util.function.IntToLongFunction;
+
+/**
+ * Choisit au démarrage le coût BCrypt le plus élevé dont le hachage reste sous la latence cible,
+ * borné par [minStrength, maxStrength]. Chaque point de coût double le temps : la mesure
+ * s'arrête au premier coût qui dépasse la cible.
+ */
+@Slf4j
+public final class BCryptStrengthCalibrator {
+
+    private static final String SAMPLE_PASSWORD = "calibration-supplychainx";
+    private static final int SAMPLES = 3;
+
+    private BCryptStrengthCalibrator() {
+    }
+
+    public static int calibrate(Duration targetLatency, int minStrength, int maxStrength) {
+        // Première passe jetée : chargement des classes et compilation JIT
+        new BCryptPasswordEncoder(minStrength).encode(SAMPLE_PASSWORD);
+        return calibrate(targetLatency, minStrength, maxStrength, BCryptStrengthCalibrator::measureNanos);
+    }
+
+    static int calibrate(Duration targetLatency, int minStrength, int maxStrength, IntToLongFunction hashNanos) {
+        long targetNanos = targetLatency.toNanos();
+        int strength = minStrength;
+        for (int candidate = minStrength; candidate <= maxStrength; candidate++) {
+            long nanos = hashNanos.applyAsLong(candidate);
+            log.debug("BCrypt coût {} : {} ms", candidate, nanos / 1_000_000);
+            if (nanos > targetNanos) {
+                break;
+            }
+            strength = candidate;
+        }
+        log.info("Coût BCrypt calibré à {} (cible {} ms)", strength, targetLatency.toMillis());
+        return strength;
+    }
+
+    private static long measureNanos(int strength) {
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(strength);
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < SAMPLES; i++) {
+            long start = System.nanoTime();
+            encoder.encode(SAMPLE_PASSWORD);
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        return best;
+    }
+}
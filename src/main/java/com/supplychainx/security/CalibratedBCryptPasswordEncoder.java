@@ -0,0 +1,35 @@
+package com.supplychainx.security;
+
+import lombok.Getter;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * BCrypt dont le coût vient d'une calibration au démarrage (ou de la configuration, qui
+ * l'impose à tous les nœuds). Contrairement à {@link BCryptPasswordEncoder}, tout hash dont
+ * le coût diffère du coût courant est à régénérer, dans un sens comme dans l'autre : un hash
+ * trop coûteux pour la machine est ramené au coût cible à la connexion suivante.
+ */
+@Getter
+public class CalibratedBCryptPasswordEncoder extends BCryptPasswordEncoder {
+
+    private static final Pattern BCRYPT_PREFIX = Pattern.compile("\\A\\$2[aby]?\\$(\\d\\d)\\$");
+
+    private final int strength;
+
+    public CalibratedBCryptPasswordEncoder(int strength) {
+        super(strength);
+        this.strength = strength;
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        if (encodedPassword == null) {
+            return false;
+        }
+        Matcher matcher = BCRYPT_PREFIX.matcher(encodedPassword);
+        return matcher.find() && Integer.parseInt(matcher.group(1)) != strength;
+    }
+}
@@ -0,0 +1,28 @@
+package com.supplychainx.security;
+
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.Optional;
+
+/**
+ * Accès à l'appelant déjà résolu par {@link SecurityAspect} pour la requête HTTP en cours.
+ * Les services peuvent l'utiliser sans ré-authentifier.
+ */
+public final class CallerContext {
+
+    static final String CALLER_ATTRIBUTE = CallerContext.class.getName() + ".CALLER";
+    static final String AUTHENTICATIONS_ATTRIBUTE = CallerContext.class.getName() + ".AUTHENTICATIONS";
+
+    private CallerContext() {
+    }
+
+    public static Optional<AuthenticatedUser> current() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(
+                (AuthenticatedUser) attributes.getAttribute(CALLER_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST));
+    }
+}
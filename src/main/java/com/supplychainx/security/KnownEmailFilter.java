@@ -0,0 +1,223 @@
+package com.supplychainx.security;
+
+import com.supplychainx.common.repository.UserRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.LongSupplier;
+
+/**
+ * Filtre de Bloom des emails connus, construit au démarrage depuis la table users,
+ * alimenté par UserService et reconstruit périodiquement.
+ * Avant de refuser un email absent du filtre, on compare le plus grand id_user à celui vu
+ * lors du dernier chargement : les utilisateurs insérés depuis (par un autre nœud ou hors
+ * UserService) sont rattrapés, et le refus ne coûte qu'un MAX sur la clé primaire au lieu
+ * de la lecture de la ligne. Ce rattrapage a lieu au plus une fois par catch-up-interval :
+ * entre deux, les emails absents sont refusés sans requête, et un afflux d'emails inconnus
+ * n'envoie pas un MAX par tentative.
+ */
+@Component
+public class KnownEmailFilter {
+
+    private static final int MIN_CAPACITY = 1024;
+
+    private final UserRepository userRepository;
+    private final double targetFalsePositiveRate;
+    private final long catchUpIntervalNanos;
+    private final LongSupplier nanoClock;
+    private final AtomicLong nextCatchUp;
+    private final Counter rejected;
+    private final Counter falsePositives;
+
+    private volatile BloomFilter filter;
+    private volatile Set<String> addedDuringRebuild;
+    private volatile long loadedUpToId;
+
+    @Autowired
+    public KnownEmailFilter(
+            UserRepository userRepository,
+            @Value("${security.email-filter.false-positive-rate:0.01}") double targetFalsePositiveRate,
+            @Value("${security.email-filter.catch-up-interval:5s}") Duration catchUpInterval,
+            MeterRegistry meterRegistry) {
+        this(userRepository, targetFalsePositiveRate, catchUpInterval, System::nanoTime, meterRegistry);
+    }
+
+    KnownEmailFilter(UserRepository userRepository, double targetFalsePositiveRate, Duration catchUpInterval,
+                     LongSupplier nanoClock, MeterRegistry meterRegistry) {
+        this.userRepository = userRepository;
+        this.targetFalsePositiveRate = targetFalsePositiveRate;
+        this.catchUpIntervalNanos = catchUpInterval.toNanos();
+        this.nanoClock = nanoClock;
+        this.nextCatchUp = new AtomicLong(nanoClock.getAsLong());
+        this.rejected = Counter.builder("security.email.filter.rejected")
+                .description("Emails inconnus rejetés sans requête SQL")
+                .register(meterRegistry);
+        this.falsePositives = Counter.builder("security.email.filter.false.positives")
+                .description("Emails acceptés par le filtre mais absents de la base")
+                .register(meterRegistry);
+        Gauge.builder("security.email.filter.expected.false.positive.rate", this,
+                        KnownEmailFilter::expectedFalsePositiveRate)
+                .register(meterRegistry);
+    }
+
+    public boolean definitelyAbsent(String email) {
+        String key = normalize(email);
+        BloomFilter current = filter;
+        if (current == null || current.mightContain(key)) {
+            return false;
+        }
+        current = catchUpIfDue(current);
+        if (current.mightContain(key)) {
+            return false;
+        }
+        rejected.increment();
+        return true;
+    }
+
+    public void recordLookupMiss() {
+        if (filter != null) {
+            falsePositives.increment();
+        }
+    }
+
+    public void add(String email) {
+        String key = normalize(email);
+        Set<String> pending = addedDuringRebuild;
+        if (pending != null) {
+            pending.add(key);
+        }
+        BloomFilter current = filter;
+        if (current != null) {
+            current.put(key);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${security.email-filter.rebuild-interval:PT15M}",
+            fixedDelayString = "${security.email-filter.rebuild-interval:PT15M}")
+    public synchronized void rebuild() {
+        addedDuringRebuild = ConcurrentHashMap.newKeySet();
+        try {
+            // MAX lu avant les emails : tout utilisateur absent de la liste a un id supérieur
+            long maxId = maxIdUser();
+            List<String> emails = userRepository.findAllEmails();
+            BloomFilter rebuilt = new BloomFilter(Math.max(MIN_CAPACITY, emails.size() * 2), targetFalsePositiveRate);
+            for (String email : emails) {
+                rebuilt.put(normalize(email));
+            }
+            filter = rebuilt;
+            loadedUpToId = maxId;
+            addedDuringRebuild.forEach(rebuilt::put);
+        } finally {
+            addedDuringRebuild = null;
+        }
+    }
+
+    // Un seul appelant par intervalle rattrape ; les autres s'en tiennent au filtre courant
+    // plutôt que d'attendre le verrou
+    private BloomFilter catchUpIfDue(BloomFilter current) {
+        long now = nanoClock.getAsLong();
+        long due = nextCatchUp.get();
+        if (now - due < 0 || !nextCatchUp.compareAndSet(due, now + catchUpIntervalNanos)) {
+            return current;
+        }
+        return catchUp();
+    }
+
+    private synchronized BloomFilter catchUp() {
+        long maxId = maxIdUser();
+        if (maxId > loadedUpToId) {
+            for (String email : userRepository.findEmailsByIdUserGreaterThan(loadedUpToId)) {
+                filter.put(normalize(email));
+            }
+            loadedUpToId = maxId;
+        }
+        return filter;
+    }
+
+    private long maxIdUser() {
+        Long maxId = userRepository.findMaxIdUser();
+        return maxId == null ? 0L : maxId;
+    }
+
+    double expectedFalsePositiveRate() {
+        BloomFilter current = filter;
+        return current == null ? 0.0 : current.expectedFalsePositiveRate();
+    }
+
+    private static String normalize(String email) {
+        return email.trim().toLowerCase(Locale.ROOT);
+    }
+
+    static final class BloomFilter {
+
+        private final AtomicLongArray bits;
+        private final long bitCount;
+        private final int hashCount;
+        private final AtomicLong insertions = new AtomicLong();
+
+        BloomFilter(int expectedInsertions, double falsePositiveRate) {
+            long optimalBits = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+            this.bits = new AtomicLongArray((int) ((optimalBits + 63) / 64));
+            this.bitCount = bits.length() * 64L;
+            this.hashCount = Math.max(1, (int) Math.round((double) bitCount / expectedInsertions * Math.log(2)));
+        }
+
+        void put(String key) {
+            long hash = fnv1a64(key);
+            int h1 = (int) hash;
+            int h2 = (int) (hash >>> 32);
+            for (int i = 1; i <= hashCount; i++) {
+                long index = ((h1 + (long) i * h2) & Long.MAX_VALUE) % bitCount;
+                int word = (int) (index >>> 6);
+                long mask = 1L << index;
+                long current;
+                do {
+                    current = bits.get(word);
+                } while ((current & mask) == 0 && !bits.compareAndSet(word, current, current | mask));
+            }
+            insertions.incrementAndGet();
+        }
+
+        boolean mightContain(String key) {
+            long hash = fnv1a64(key);
+            int h1 = (int) hash;
+            int h2 = (int) (hash >>> 32);
+            for (int i = 1; i <= hashCount; i++) {
+                long index = ((h1 + (long) i * h2) & Long.MAX_VALUE) % bitCount;
+                if ((bits.get((int) (index >>> 6)) & (1L << index)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        double expectedFalsePositiveRate() {
+            return Math.pow(1 - Math.exp(-hashCount * (double) insertions.get() / bitCount), hashCount);
+        }
+
+        private static long fnv1a64(String key) {
+            long hash = 0xcbf29ce484222325L;
+            for (byte b : key.getBytes(StandardCharsets.UTF_8)) {
+                hash ^= b & 0xff;
+                hash *= 0x100000001b3L;
+            }
+            return hash;
+        }
+    }
+}
@@ -0,0 +1,184 @@
+package com.supplychainx.security;
+
+import com.supplychainx.exception.TooManyRequestsException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Limiteur à fenêtre glissante des échecs de connexion, par compte et par adresse cliente.
+ * Les compteurs sont répartis sur des segments verrouillés indépendamment. Une fois la limite
+ * atteinte, la requête est rejetée (429) avant tout calcul BCrypt.
+ * Les clés viennent de l'appelant (emails, adresses) : chaque segment est une LRU bornée,
+ * et les clés dont la fenêtre s'est vidée sont retirées dès qu'elles sont relues.
+ */
+@Component
+public class LoginAttemptLimiter {
+
+    private static final int STRIPES = 64;
+
+    private final int maxFailuresPerAccount;
+    private final int maxFailuresPerAddress;
+    private final long windowNanos;
+    private final LongSupplier nanoClock;
+    private final Stripe[] stripes = new Stripe[STRIPES];
+    private final Counter throttled;
+
+    @Autowired
+    public LoginAttemptLimiter(
+            @Value("${security.login-throttle.max-failures-per-account:5}") int maxFailuresPerAccount,
+            @Value("${security.login-throttle.max-failures-per-address:20}") int maxFailuresPerAddress,
+            @Value("${security.login-throttle.window:5m}") Duration window,
+            @Value("${security.login-throttle.max-tracked-keys:100000}") int maxTrackedKeys,
+            MeterRegistry meterRegistry) {
+        this(maxFailuresPerAccount, maxFailuresPerAddress, window, maxTrackedKeys, System::nanoTime, meterRegistry);
+    }
+
+    LoginAttemptLimiter(int maxFailuresPerAccount, int maxFailuresPerAddress, Duration window,
+                        int maxTrackedKeys, LongSupplier nanoClock, MeterRegistry meterRegistry) {
+        this.maxFailuresPerAccount = maxFailuresPerAccount;
+        this.maxFailuresPerAddress = maxFailuresPerAddress;
+        this.windowNanos = window.toNanos();
+        this.nanoClock = nanoClock;
+        int maxKeysPerStripe = Math.max(1, maxTrackedKeys / STRIPES);
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new Stripe(maxKeysPerStripe);
+        }
+        this.throttled = Counter.builder("security.login.throttled")
+                .description("Tentatives rejetées par le limiteur d'échecs de connexion")
+                .register(meterRegistry);
+    }
+
+    public void checkAllowed(String email, String clientAddress) {
+        long now = nanoClock.getAsLong();
+        long waitNanos = Math.max(
+                remainingLockNanos(accountKey(email), maxFailuresPerAccount, now),
+                remainingLockNanos(addressKey(clientAddress), maxFailuresPerAddress, now));
+        if (waitNanos > 0) {
+            throttled.increment();
+            throw new TooManyRequestsException(
+                    "Trop de tentatives de connexion échouées, veuillez réessayer plus tard",
+                    Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos)));
+        }
+    }
+
+    public void recordFailure(String email, String clientAddress) {
+        long now = nanoClock.getAsLong();
+        record(accountKey(email), now);
+        record(addressKey(clientAddress), now);
+    }
+
+    public void reset(String email) {
+        String key = accountKey(email);
+        Stripe stripe = stripeFor(key);
+        synchronized (stripe) {
+            stripe.failures.remove(key);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${security.login-throttle.purge-interval:PT1M}")
+    public void purgeExpired() {
+        long now = nanoClock.getAsLong();
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                Iterator<ArrayDeque<Long>> windows = stripe.failures.values().iterator();
+                while (windows.hasNext()) {
+                    ArrayDeque<Long> failures = windows.next();
+                    evictExpired(failures, now);
+                    if (failures.isEmpty()) {
+                        windows.remove();
+                    }
+                }
+            }
+        }
+    }
+
+    private long remainingLockNanos(String key, int maxFailures, long now) {
+        if (key == null) {
+            return 0;
+        }
+        Stripe stripe = stripeFor(key);
+        synchronized (stripe) {
+            ArrayDeque<Long> failures = stripe.failures.get(key);
+            if (failures == null) {
+                return 0;
+            }
+            evictExpired(failures, now);
+            if (failures.isEmpty()) {
+                stripe.failures.remove(key);
+                return 0;
+            }
+            if (failures.size() < maxFailures) {
+                return 0;
+            }
+            return failures.peekFirst() + windowNanos - now;
+        }
+    }
+
+    private void record(String key, long now) {
+        if (key == null) {
+            return;
+        }
+        Stripe stripe = stripeFor(key);
+        synchronized (stripe) {
+            ArrayDeque<Long> failures = stripe.failures.computeIfAbsent(key, k -> new ArrayDeque<>());
+            evictExpired(failures, now);
+            failures.addLast(now);
+        }
+    }
+
+    private void evictExpired(ArrayDeque<Long> failures, long now) {
+        while (!failures.isEmpty() && now - failures.peekFirst() >= windowNanos) {
+            failures.pollFirst();
+        }
+    }
+
+    int trackedKeys() {
+        int total = 0;
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                total += stripe.failures.size();
+            }
+        }
+        return total;
+    }
+
+    private Stripe stripeFor(String key) {
+        return stripes[(key.hashCode() & 0x7fffffff) % STRIPES];
+    }
+
+    private static String accountKey(String email) {
+        return email == null ? null : "email:" + email.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static String addressKey(String clientAddress) {
+        return clientAddress == null ? null : "ip:" + clientAddress;
+    }
+
+    // LinkedHashMap en ordre d'accès : au-delà de maxKeys, la clé la moins récemment
+    // utilisée est oubliée. Une adresse qui attaque reste chaude et n'est pas évincée.
+    private static final class Stripe {
+        private final Map<String, ArrayDeque<Long>> failures;
+
+        private Stripe(int maxKeys) {
+            this.failures = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, ArrayDeque<Long>> eldest) {
+                    return size() > maxKeys;
+                }
+            };
+        }
+    }
+}
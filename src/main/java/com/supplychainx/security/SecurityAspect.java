@@ -1,55 +1,96 @@
 package com.supplychainx.security;
 
-import com.supplychainx.common.entity.User;
-import com.supplychainx.common.enums.UserRole;
 import com.supplychainx.exception.UnauthorizedException;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.servlet.http.HttpServletRequest;
-import lombok.RequiredArgsConstructor;
 import org.aspectj.lang.JoinPoint;
 import org.aspectj.lang.annotation.Aspect;
 import org.aspectj.lang.annotation.Before;
 import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.http.HttpHeaders;
 import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
 import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
 
-import java.lang.reflect.Method;
-
 @Aspect
 @Component
-@RequiredArgsConstructor
 public class SecurityAspect {
 
+    private static final String BEARER_PREFIX = "Bearer ";
+
     private final AuthenticationService authenticationService;
+    private final TokenService tokenService;
+    private final AuthorizationTable authorizationTable;
+    private final DistributionSummary authenticationsPerRequest;
+
+    public SecurityAspect(AuthenticationService authenticationService,
+                          TokenService tokenService,
+                          AuthorizationTable authorizationTable,
+                          MeterRegistry meterRegistry) {
+        this.authenticationService = authenticationService;
+        this.tokenService = tokenService;
+        this.authorizationTable = authorizationTable;
+        this.authenticationsPerRequest = DistributionSummary.builder("security.authentications.per.request")
+                .description("Nombre d'authentifications effectuées pour une même requête HTTP")
+                .register(meterRegistry);
+    }
 
     @Before("@annotation(com.supplychainx.security.RequiresAuth)")
     public void checkAuthentication(JoinPoint joinPoint) {
-        HttpServletRequest request = getCurrentRequest();
-        
-        String email = request.getHeader("email");
-        String password = request.getHeader("password");
-        
-        authenticationService.authenticate(email, password);
+        getCaller(getCurrentRequestAttributes());
     }
 
     @Before("@annotation(com.supplychainx.security.RequiresRole)")
     public void checkAuthorization(JoinPoint joinPoint) {
-        HttpServletRequest request = getCurrentRequest();        
-        String email = request.getHeader("email");
-        String password = request.getHeader("password");        
-        User user = authenticationService.authenticate(email, password);        
+        AuthenticatedUser caller = getCaller(getCurrentRequestAttributes());
         MethodSignature signature = (MethodSignature) joinPoint.getSignature();
-        Method method = signature.getMethod();
-        RequiresRole requiresRole = method.getAnnotation(RequiresRole.class);
-        UserRole[] requiredRoles = requiresRole.value();  
-        authenticationService.checkRole(user, requiredRoles);
+        authorizationTable.check(signature.getMethod(), caller.getRole());
+    }
+
+    private AuthenticatedUser getCaller(ServletRequestAttributes attributes) {
+        AuthenticatedUser caller = (AuthenticatedUser) attributes.getAttribute(
+                CallerContext.CALLER_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (caller != null) {
+            return caller;
+        }
+
+        countAuthentication(attributes);
+        caller = resolveCaller(attributes.getRequest());
+        attributes.setAttribute(CallerContext.CALLER_ATTRIBUTE, caller, RequestAttributes.SCOPE_REQUEST);
+        return caller;
+    }
+
+    private void countAuthentication(ServletRequestAttributes attributes) {
+        int[] count = (int[]) attributes.getAttribute(
+                CallerContext.AUTHENTICATIONS_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (count == null) {
+            int[] requestCount = new int[1];
+            attributes.setAttribute(CallerContext.AUTHENTICATIONS_ATTRIBUTE, requestCount, RequestAttributes.SCOPE_REQUEST);
+            attributes.registerDestructionCallback(CallerContext.AUTHENTICATIONS_ATTRIBUTE,
+                    () -> authenticationsPerRequest.record(requestCount[0]), RequestAttributes.SCOPE_REQUEST);
+            count = requestCount;
+        }
+        count[0]++;
+    }
+
+    private AuthenticatedUser resolveCaller(HttpServletRequest request) {
+        String authorization = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if (authorization != null && authorization.startsWith(BEARER_PREFIX)) {
+            return tokenService.verify(authorization.substring(BEARER_PREFIX.length()).trim());
+        }
+
+        String email = request.getHeader("email");
+        String password = request.getHeader("password");
+        return AuthenticatedUser.from(authenticationService.authenticate(email, password, request.getRemoteAddr()));
     }
 
-    private HttpServletRequest getCurrentRequest() {
+    private ServletRequestAttributes getCurrentRequestAttributes() {
         ServletRequestAttributes attributes = (ServletRequestAttributes) RequestContextHolder.getRequestAttributes();
         if (attributes == null) {
             throw new UnauthorizedException("Impossible de récupérer la requête HTTP");
         }
-        return attributes.getRequest();
+        return attributes;
     }
 }
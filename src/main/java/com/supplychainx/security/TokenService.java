@@ -0,0 +1,119 @@
+package com.supplychainx.security;
+
+import com.supplychainx.common.entity.User;
+import com.supplychainx.common.enums.UserRole;
+import com.supplychainx.exception.UnauthorizedException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Locale;
+
+/**
+ * Jetons compacts signés HMAC-SHA256 : {@code base64url(idUser:role:expiration).base64url(signature)}.
+ * La vérification ne nécessite ni base de données ni BCrypt.
+ */
+@Slf4j
+@Service
+public class TokenService {
+
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+    static final int MIN_SECRET_LENGTH = 32;
+
+    private final SecretKeySpec key;
+    private final Duration ttl;
+    private final Clock clock;
+
+    @Autowired
+    public TokenService(
+            @Value("${security.token.secret:}") String secret,
+            @Value("${security.token.ttl:8h}") Duration ttl) {
+        this(secret, ttl, Clock.systemUTC());
+    }
+
+    TokenService(String secret, Duration ttl, Clock clock) {
+        this.key = new SecretKeySpec(resolveSecret(secret), ALGORITHM);
+        this.ttl = ttl;
+        this.clock = clock;
+    }
+
+    public IssuedToken issue(User user) {
+        Instant expiresAt = clock.instant().plus(ttl);
+        String payload = user.getIdUser() + ":" + user.getRole().name() + ":" + expiresAt.getEpochSecond();
+        String encodedPayload = ENCODER.encodeToString(payload.getBytes(StandardCharsets.UTF_8));
+        return new IssuedToken(encodedPayload + "." + ENCODER.encodeToString(sign(encodedPayload)), expiresAt);
+    }
+
+    public AuthenticatedUser verify(String token) {
+        int separator = token.indexOf('.');
+        if (separator <= 0) {
+            throw new UnauthorizedException("Jeton invalide");
+        }
+        String encodedPayload = token.substring(0, separator);
+
+        try {
+            byte[] signature = DECODER.decode(token.substring(separator + 1));
+            if (!MessageDigest.isEqual(sign(encodedPayload), signature)) {
+                throw new UnauthorizedException("Jeton invalide");
+            }
+
+            String[] parts = new String(DECODER.decode(encodedPayload), StandardCharsets.UTF_8).split(":");
+            if (parts.length != 3) {
+                throw new UnauthorizedException("Jeton invalide");
+            }
+            if (clock.instant().getEpochSecond() >= Long.parseLong(parts[2])) {
+                throw new UnauthorizedException("Jeton expiré");
+            }
+            return new AuthenticatedUser(Long.valueOf(parts[0]), UserRole.valueOf(parts[1]));
+        } catch (IllegalArgumentException e) {
+            throw new UnauthorizedException("Jeton invalide");
+        }
+    }
+
+    private byte[] sign(String encodedPayload) {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(key);
+            return mac.doFinal(encodedPayload.getBytes(StandardCharsets.US_ASCII));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Signature HMAC impossible", e);
+        }
+    }
+
+    /**
+     * Un secret fourni doit faire au moins 32 octets et ne pas être une valeur d'exemple :
+     * le démarrage est refusé plutôt que de signer des jetons avec une clé devinable.
+     */
+    private static byte[] resolveSecret(String secret) {
+        if (secret != null && !secret.isBlank()) {
+            byte[] bytes = secret.getBytes(StandardCharsets.UTF_8);
+            if (secret.toLowerCase(Locale.ROOT).contains("change-me")) {
+                throw new IllegalStateException("security.token.secret contient une valeur d'exemple, fournissez un secret propre à l'environnement");
+            }
+            if (bytes.length < MIN_SECRET_LENGTH) {
+                throw new IllegalStateException("security.token.secret doit faire au moins " + MIN_SECRET_LENGTH + " octets");
+            }
+            return bytes;
+        }
+        log.warn("security.token.secret non défini : clé aléatoire générée, les jetons ne survivront pas au redémarrage");
+        byte[] generated = new byte[32];
+        new SecureRandom().nextBytes(generated);
+        return generated;
+    }
+
+    public record IssuedToken(String token, Instant expiresAt) {
+    }
+}
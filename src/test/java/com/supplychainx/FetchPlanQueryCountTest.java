@@ -0,0 +1,214 @@
+package com.supplychainx;
+
+import com.supplychainx.approvisionnement.entity.RawMaterial;
+import com.supplychainx.config.TestSecurityConfig;
+import com.supplychainx.livraison.dto.DeliveryResponseDTO;
+import com.supplychainx.livraison.entity.Customer;
+import com.supplychainx.livraison.entity.Delivery;
+import com.supplychainx.livraison.entity.Order;
+import com.supplychainx.livraison.enums.DeliveryStatus;
+import com.supplychainx.livraison.enums.OrderStatus;
+import com.supplychainx.livraison.service.DeliveryService;
+import com.supplychainx.livraison.service.OrderService;
+import com.supplychainx.production.entity.BillOfMaterial;
+import com.supplychainx.production.entity.Product;
+import com.supplychainx.production.entity.ProductionOrder;
+import com.supplychainx.production.enums.ProductionOrderStatus;
+import com.supplychainx.production.service.BillOfMaterialService;
+import com.supplychainx.production.service.ProductionOrderService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Nombre de requêtes SQL par méthode de service, avec des associations LAZY par défaut et
+ * des graphes d'entités nommés sur les lectures qui en ont besoin. Les écritures sont
+ * comptées après un flush explicite.
+ */
+@Import(TestSecurityConfig.class)
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class FetchPlanQueryCountTest {
+
+    @Autowired
+    private DeliveryService deliveryService;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private ProductionOrderService productionOrderService;
+
+    @Autowired
+    private BillOfMaterialService billOfMaterialService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private Customer customer;
+    private Product product;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        customer = new Customer();
+        customer.setName("Client plan");
+        customer.setAddress("1 rue du Plan");
+        customer.setCity("Lyon");
+        entityManager.persist(customer);
+
+        product = new Product();
+        product.setName("Produit plan");
+        product.setProductionTime(30);
+        product.setCost(100.0);
+        product.setStock(10);
+        entityManager.persist(product);
+    }
+
+    @Test
+    @DisplayName("Lecture d'une livraison : commande, client et produit dans une seule requête")
+    void testGetDeliveryById_SingleStatement() {
+        Delivery delivery = delivery(order(OrderStatus.EN_ROUTE));
+
+        long statements = countStatements(() -> {
+            DeliveryResponseDTO dto = deliveryService.getDeliveryById(delivery.getIdDelivery());
+            assertEquals("Client plan", dto.getOrder().getCustomer().getName());
+            assertEquals("Produit plan", dto.getOrder().getProduct().getName());
+        });
+
+        assertEquals(1, statements);
+    }
+
+    @Test
+    @DisplayName("Changement de statut : une lecture et une mise à jour par ligne modifiée")
+    void testUpdateDeliveryStatus_StatementCount() {
+        Delivery enRoute = delivery(order(OrderStatus.EN_ROUTE));
+        Delivery delivered = delivery(order(OrderStatus.EN_ROUTE));
+
+        assertEquals(2, countStatements(() ->
+                deliveryService.updateDeliveryStatus(enRoute.getIdDelivery(), "EN_COURS")));
+        assertEquals(3, countStatements(() ->
+                deliveryService.updateDeliveryStatus(delivered.getIdDelivery(), "LIVREE")));
+    }
+
+    @Test
+    @DisplayName("Annulation d'une commande : ni le client ni le produit ne sont chargés")
+    void testCancelOrder_DoesNotLoadAssociations() {
+        Order order = order(OrderStatus.EN_PREPARATION);
+
+        assertEquals(2, countStatements(() -> orderService.cancelOrder(order.getIdOrder())));
+    }
+
+    @Test
+    @DisplayName("Liste des ordres de production : une requête quel que soit le volume")
+    void testGetAllProductionOrders_SingleStatement() {
+        for (int i = 0; i < 3; i++) {
+            productionOrder(product(i));
+        }
+        long small = countStatements(() -> productionOrderService.getAllProductionOrders());
+
+        for (int i = 3; i < 30; i++) {
+            productionOrder(product(i));
+        }
+        long large = countStatements(() -> productionOrderService.getAllProductionOrders());
+
+        assertEquals(1, small);
+        assertEquals(small, large);
+    }
+
+    @Test
+    @DisplayName("Nomenclature d'un produit : produit puis lignes avec leurs matières, deux requêtes")
+    void testGetBillOfMaterialsByProduct_StatementCountIsConstant() {
+        for (int i = 0; i < 20; i++) {
+            BillOfMaterial line = new BillOfMaterial();
+            line.setProduct(product);
+            line.setMaterial(material(i));
+            line.setQuantity(i + 1);
+            entityManager.persist(line);
+        }
+
+        long statements = countStatements(() ->
+                assertEquals(20, billOfMaterialService.getBillOfMaterialsByProduct(product.getIdProduct()).size()));
+
+        assertEquals(2, statements);
+    }
+
+    private long countStatements(Runnable action) {
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+        action.run();
+        entityManager.flush();
+        return statistics.getPrepareStatementCount();
+    }
+
+    private Order order(OrderStatus status) {
+        Order order = new Order();
+        order.setCustomer(customer);
+        order.setProduct(product);
+        order.setQuantity(2);
+        order.setStatus(status);
+        entityManager.persist(order);
+        return order;
+    }
+
+    private Delivery delivery(Order order) {
+        Delivery delivery = new Delivery();
+        delivery.setOrder(order);
+        delivery.setVehicle("Camion");
+        delivery.setDriver("Chauffeur");
+        delivery.setStatus(DeliveryStatus.PLANIFIEE);
+        delivery.setDeliveryDate(LocalDate.now().plusDays(1));
+        delivery.setCost(50.0);
+        entityManager.persist(delivery);
+        return delivery;
+    }
+
+    private Product product(int index) {
+        Product other = new Product();
+        other.setName("Produit plan " + index);
+        other.setProductionTime(10);
+        other.setCost(20.0);
+        other.setStock(5);
+        entityManager.persist(other);
+        return other;
+    }
+
+    private void productionOrder(Product target) {
+        ProductionOrder order = new ProductionOrder();
+        order.setProduct(target);
+        order.setQuantity(1);
+        order.setStatus(ProductionOrderStatus.EN_ATTENTE);
+        order.setStartDate(LocalDate.now());
+        entityManager.persist(order);
+    }
+
+    private RawMaterial material(int index) {
+        RawMaterial material = new RawMaterial();
+        material.setName("Matière plan " + index);
+        material.setStock(100);
+        material.setStockMin(10);
+        material.setUnit("kg");
+        entityManager.persist(material);
+        return material;
+    }
+}
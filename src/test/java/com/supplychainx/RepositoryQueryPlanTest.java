@@ -0,0 +1,162 @@
+package com.supplychainx;
+
+import com.supplychainx.approvisionnement.enums.SupplyOrderStatus;
+import com.supplychainx.approvisionnement.repository.SupplyOrderRepository;
+import com.supplychainx.common.repository.UserRepository;
+import com.supplychainx.livraison.entity.Customer;
+import com.supplychainx.livraison.enums.DeliveryStatus;
+import com.supplychainx.livraison.enums.OrderStatus;
+import com.supplychainx.livraison.repository.DeliveryRepository;
+import com.supplychainx.livraison.repository.OrderRepository;
+import com.supplychainx.production.entity.Product;
+import com.supplychainx.production.enums.ProductionOrderStatus;
+import com.supplychainx.production.repository.BillOfMaterialRepository;
+import com.supplychainx.production.repository.ProductionOrderRepository;
+import jakarta.persistence.EntityManager;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Applique le changelog Liquibase sur H2 (mode MySQL), appelle chaque méthode de repository
+ * filtrée, capture le SQL réellement généré par Hibernate puis vérifie par EXPLAIN que la table
+ * filtrée est lue par un index. Les requêtes LIKE '%…%' et findMaterialsBelowMinStock
+ * (comparaison entre deux colonnes) parcourent la table par nature et ne sont pas vérifiées ici.
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:queryplans;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "spring.liquibase.enabled=true",
+        "spring.jpa.hibernate.ddl-auto=none",
+        "spring.jpa.defer-datasource-initialization=false",
+        "spring.jpa.properties.hibernate.cache.use_second_level_cache=false",
+        "spring.jpa.properties.hibernate.cache.use_query_cache=false"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+class RepositoryQueryPlanTest {
+
+    private static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private SupplyOrderRepository supplyOrderRepository;
+
+    @Autowired
+    private ProductionOrderRepository productionOrderRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private DeliveryRepository deliveryRepository;
+
+    @Autowired
+    private BillOfMaterialRepository billOfMaterialRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private DataSource dataSource;
+
+    private JdbcTemplate jdbcTemplate;
+
+    @TestConfiguration
+    static class StatementCaptureConfig {
+
+        @Bean
+        HibernatePropertiesCustomizer statementCapture() {
+            StatementInspector inspector = sql -> {
+                STATEMENTS.add(sql);
+                return sql;
+            };
+            return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, inspector);
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        STATEMENTS.clear();
+    }
+
+    static Stream<Arguments> repositoryQueries() {
+        return Stream.of(
+                query("UserRepository.findByEmail", "users",
+                        test -> test.userRepository.findByEmail("admin@supplychainx.com")),
+                query("SupplyOrderRepository.findByStatus", "supply_orders",
+                        test -> test.supplyOrderRepository.findByStatus(SupplyOrderStatus.EN_ATTENTE)),
+                query("SupplyOrderRepository.countBySupplier_IdSupplierAndStatusIn", "supply_orders",
+                        test -> test.supplyOrderRepository.countBySupplier_IdSupplierAndStatusIn(1L,
+                                List.of(SupplyOrderStatus.EN_ATTENTE, SupplyOrderStatus.EN_COURS))),
+                query("SupplyOrderRepository.findByStatusAndIdOrderGreaterThanOrderByIdOrderAsc", "supply_orders",
+                        test -> test.supplyOrderRepository.findByStatusAndIdOrderGreaterThanOrderByIdOrderAsc(
+                                SupplyOrderStatus.EN_ATTENTE, 0L, Limit.of(50))),
+                query("ProductionOrderRepository.findByStatus", "production_orders",
+                        test -> test.productionOrderRepository.findByStatus(ProductionOrderStatus.EN_ATTENTE)),
+                query("ProductionOrderRepository.findByProduct", "production_orders",
+                        test -> test.productionOrderRepository.findByProduct(test.entityManager.getReference(Product.class, 1L))),
+                query("ProductionOrderRepository.findByStatusAndIdOrderGreaterThanOrderByIdOrderAsc", "production_orders",
+                        test -> test.productionOrderRepository.findByStatusAndIdOrderGreaterThanOrderByIdOrderAsc(
+                                ProductionOrderStatus.EN_ATTENTE, 0L, Limit.of(50))),
+                query("OrderRepository.findByStatus", "orders",
+                        test -> test.orderRepository.findByStatus(OrderStatus.EN_PREPARATION)),
+                query("OrderRepository.findByCustomer", "orders",
+                        test -> test.orderRepository.findByCustomer(test.entityManager.getReference(Customer.class, 1L))),
+                query("OrderRepository.findRowsByStatusAfter", "orders",
+                        test -> test.orderRepository.findRowsByStatusAfter(OrderStatus.EN_PREPARATION, 0L, Limit.of(50))),
+                query("DeliveryRepository.findByStatus", "deliveries",
+                        test -> test.deliveryRepository.findByStatus(DeliveryStatus.PLANIFIEE)),
+                query("DeliveryRepository.findRowsByStatus", "deliveries",
+                        test -> test.deliveryRepository.findRowsByStatus(DeliveryStatus.PLANIFIEE)),
+                query("BillOfMaterialRepository.findByProduct", "bill_of_materials",
+                        test -> test.billOfMaterialRepository.findByProduct(test.entityManager.getReference(Product.class, 1L)))
+        );
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("repositoryQueries")
+    void testRepositoryQuery_ShouldUseIndex(String method, String table, Consumer<RepositoryQueryPlanTest> call) {
+        call.accept(this);
+
+        List<String> statements = STATEMENTS.stream()
+                .filter(sql -> sql.toLowerCase(Locale.ROOT).contains(" " + table + " "))
+                .toList();
+        assertFalse(statements.isEmpty(), () -> method + " n'a émis aucune requête sur " + table);
+
+        String tableScan = "PUBLIC." + table.toUpperCase(Locale.ROOT) + ".tableScan";
+        for (String sql : statements) {
+            // H2 n'exige pas la valeur des paramètres pour un EXPLAIN : le plan est celui de la requête préparée
+            String plan = String.join("\n", jdbcTemplate.queryForList("EXPLAIN " + sql, String.class));
+            assertFalse(plan.contains(tableScan),
+                    () -> "Parcours complet de " + table + " pour " + method + " :\n" + sql + "\n" + plan);
+        }
+    }
+
+    private static Arguments query(String method, String table, Consumer<RepositoryQueryPlanTest> call) {
+        return Arguments.of(method, table, call);
+    }
+}
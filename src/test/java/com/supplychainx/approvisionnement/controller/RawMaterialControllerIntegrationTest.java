@@ -60,6 +60,7 @@ class RawMaterialControllerIntegrationTest {
         updateDTO.setStock(150);
         updateDTO.setStockMin(15);
         updateDTO.setUnit("kg");
+        updateDTO.setVersion(0L);
     }
 
     @Test
@@ -7,6 +7,7 @@ import com.supplychainx.approvisionnement.entity.RawMaterial;
 import com.supplychainx.approvisionnement.entity.Supplier;
 import com.supplychainx.approvisionnement.repository.RawMaterialRepository;
 import com.supplychainx.exception.BusinessRuleException;
+import com.supplychainx.exception.ConflictException;
 import com.supplychainx.exception.ResourceNotFoundException;
 import com.supplychainx.mapper.RawMaterialMapper;
 import org.junit.jupiter.api.BeforeEach;
@@ -52,6 +53,7 @@ class RawMaterialServiceTest {
         rawMaterial.setStockMin(20);
         rawMaterial.setUnit("kg");
         rawMaterial.setSuppliers(new ArrayList<>());
+        rawMaterial.setVersion(0L);
 
         createDTO = new RawMaterialCreateDTO();
         createDTO.setName("Aluminium");
@@ -64,6 +66,7 @@ class RawMaterialServiceTest {
         updateDTO.setStock(120);
         updateDTO.setStockMin(25);
         updateDTO.setUnit("kg");
+        updateDTO.setVersion(0L);
 
         responseDTO = new RawMaterialResponseDTO();
         responseDTO.setIdMaterial(1L);
@@ -107,14 +110,14 @@ class RawMaterialServiceTest {
     @DisplayName("Modifier une matière première existante avec succès")
     void testUpdateRawMaterial_Success() {
         when(rawMaterialRepository.findById(1L)).thenReturn(Optional.of(rawMaterial));
-        when(rawMaterialRepository.save(any(RawMaterial.class))).thenReturn(rawMaterial);
+        when(rawMaterialRepository.saveAndFlush(any(RawMaterial.class))).thenReturn(rawMaterial);
         when(rawMaterialMapper.toResponseDTO(rawMaterial)).thenReturn(responseDTO);
 
         RawMaterialResponseDTO result = rawMaterialService.updateRawMaterial(1L, updateDTO);
 
         assertNotNull(result);
         verify(rawMaterialRepository, times(1)).findById(1L);
-        verify(rawMaterialRepository, times(1)).save(rawMaterial);
+        verify(rawMaterialRepository, times(1)).saveAndFlush(rawMaterial);
         verify(rawMaterialMapper, times(1)).toResponseDTO(rawMaterial);
     }
 
@@ -127,7 +130,19 @@ class RawMaterialServiceTest {
             rawMaterialService.updateRawMaterial(999L, updateDTO);
         });
         verify(rawMaterialRepository, times(1)).findById(999L);
-        verify(rawMaterialRepository, never()).save(any(RawMaterial.class));
+        verify(rawMaterialRepository, never()).saveAndFlush(any(RawMaterial.class));
+    }
+
+    @Test
+    @DisplayName("Modifier une matière première avec une version périmée doit lever un conflit")
+    void testUpdateRawMaterial_WithStaleVersion_ShouldThrowConflict() {
+        rawMaterial.setVersion(1L);
+        when(rawMaterialRepository.findById(1L)).thenReturn(Optional.of(rawMaterial));
+
+        assertThrows(ConflictException.class, () -> rawMaterialService.updateRawMaterial(1L, updateDTO));
+
+        assertEquals(100, rawMaterial.getStock());
+        verify(rawMaterialRepository, never()).saveAndFlush(any(RawMaterial.class));
     }
 
     @Test
@@ -138,15 +153,16 @@ class RawMaterialServiceTest {
         stockUpdateDTO.setStock(200); 
         stockUpdateDTO.setStockMin(20);
         stockUpdateDTO.setUnit("kg");
+        stockUpdateDTO.setVersion(0L);
 
         when(rawMaterialRepository.findById(1L)).thenReturn(Optional.of(rawMaterial));
-        when(rawMaterialRepository.save(any(RawMaterial.class))).thenReturn(rawMaterial);
+        when(rawMaterialRepository.saveAndFlush(any(RawMaterial.class))).thenReturn(rawMaterial);
         when(rawMaterialMapper.toResponseDTO(rawMaterial)).thenReturn(responseDTO);
 
         RawMaterialResponseDTO result = rawMaterialService.updateRawMaterial(1L, stockUpdateDTO);
 
         assertNotNull(result);
-        verify(rawMaterialRepository, times(1)).save(rawMaterial);
+        verify(rawMaterialRepository, times(1)).saveAndFlush(rawMaterial);
     }
 
     @Test
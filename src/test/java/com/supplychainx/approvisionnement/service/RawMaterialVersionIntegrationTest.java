@@ -0,0 +1,83 @@
+package com.supplychainx.approvisionnement.service;
+
+import com.supplychainx.approvisionnement.dto.RawMaterialCreateDTO;
+import com.supplychainx.approvisionnement.dto.RawMaterialResponseDTO;
+import com.supplychainx.approvisionnement.dto.RawMaterialUpdateDTO;
+import com.supplychainx.approvisionnement.repository.RawMaterialRepository;
+import com.supplychainx.config.TestSecurityConfig;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Versions renvoyées par les écritures sur une base réelle : chaque appel valide sa propre
+ * transaction (pas de @Transactional sur la classe), comme un PUT suivi d'un autre PUT.
+ */
+@Import(TestSecurityConfig.class)
+@SpringBootTest
+@ActiveProfiles("test")
+class RawMaterialVersionIntegrationTest {
+
+    @Autowired
+    private RawMaterialService rawMaterialService;
+
+    @Autowired
+    private RawMaterialRepository rawMaterialRepository;
+
+    private Long materialId;
+
+    @BeforeEach
+    void setUp() {
+        RawMaterialCreateDTO dto = new RawMaterialCreateDTO();
+        dto.setName("Acier version");
+        dto.setStock(100);
+        dto.setStockMin(10);
+        dto.setUnit("kg");
+        materialId = rawMaterialService.createRawMaterial(dto).getIdMaterial();
+    }
+
+    @AfterEach
+    void tearDown() {
+        rawMaterialRepository.deleteById(materialId);
+    }
+
+    @Test
+    @DisplayName("La version renvoyée par une modification permet d'enchaîner la suivante")
+    void testUpdateRawMaterial_ReturnedVersionAcceptedByNextUpdate() {
+        Long version = rawMaterialRepository.findById(materialId).orElseThrow().getVersion();
+
+        RawMaterialResponseDTO first = rawMaterialService.updateRawMaterial(materialId, update(150, version));
+        assertEquals(version + 1, first.getVersion());
+        RawMaterialResponseDTO second = rawMaterialService.updateRawMaterial(materialId, update(120, first.getVersion()));
+
+        assertEquals(version + 2, second.getVersion());
+        assertEquals(120, rawMaterialRepository.findById(materialId).orElseThrow().getStock());
+    }
+
+    @Test
+    @DisplayName("La version renvoyée par un ajustement de stock est à jour")
+    void testAdjustStock_ReturnsIncrementedVersion() {
+        RawMaterialResponseDTO adjusted = rawMaterialService.adjustStock(materialId, -30);
+
+        RawMaterialResponseDTO updated = rawMaterialService.updateRawMaterial(materialId, update(80, adjusted.getVersion()));
+
+        assertEquals(adjusted.getVersion() + 1, updated.getVersion());
+    }
+
+    private RawMaterialUpdateDTO update(int stock, Long version) {
+        RawMaterialUpdateDTO dto = new RawMaterialUpdateDTO();
+        dto.setName("Acier version");
+        dto.setStock(stock);
+        dto.setStockMin(10);
+        dto.setUnit("kg");
+        dto.setVersion(version);
+        return dto;
+    }
+}
@@ -0,0 +1,124 @@
+package com.supplychainx.approvisionnement.service;
+
+import com.supplychainx.approvisionnement.dto.SupplyOrderResponseDTO;
+import com.supplychainx.approvisionnement.entity.RawMaterial;
+import com.supplychainx.approvisionnement.entity.Supplier;
+import com.supplychainx.approvisionnement.entity.SupplyOrder;
+import com.supplychainx.approvisionnement.enums.SupplyOrderStatus;
+import com.supplychainx.common.dto.CursorPageDTO;
+import com.supplychainx.config.TestSecurityConfig;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Vérifie que les lectures de commandes d'approvisionnement émettent un nombre de requêtes
+ * indépendant du nombre de lignes (pas de N+1 sur le fournisseur ni sur les matières).
+ */
+@Import(TestSecurityConfig.class)
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+@Transactional
+class SupplyOrderQueryCountTest {
+
+    @Autowired
+    private SupplyOrderService supplyOrderService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    @DisplayName("Le filtre par statut reste à une requête quel que soit le volume")
+    void testGetSupplyOrdersByStatus_QueryCountIsConstant() {
+        createOrders(3, SupplyOrderStatus.EN_ATTENTE);
+        createOrders(30, SupplyOrderStatus.EN_COURS);
+
+        long smallQueries = countQueries(() -> assertEquals(3,
+                supplyOrderService.getSupplyOrdersByStatus("EN_ATTENTE").size()));
+        long largeQueries = countQueries(() -> {
+            List<SupplyOrderResponseDTO> orders = supplyOrderService.getSupplyOrdersByStatus("EN_COURS");
+            assertEquals(30, orders.size());
+            assertEquals(2, orders.get(0).getMaterials().size());
+        });
+
+        assertEquals(1, smallQueries);
+        assertEquals(smallQueries, largeQueries);
+    }
+
+    @Test
+    @DisplayName("La liste complète et la page par curseur ont un nombre de requêtes fixe")
+    void testListAndPage_QueryCountIsConstant() {
+        createOrders(40, SupplyOrderStatus.EN_ATTENTE);
+
+        long listQueries = countQueries(() -> assertEquals(40, supplyOrderService.getAllSupplyOrders().size()));
+        long smallPageQueries = countQueries(() -> supplyOrderService.getSupplyOrdersPage(null, 5, "EN_ATTENTE"));
+        long largePageQueries = countQueries(() -> {
+            CursorPageDTO<SupplyOrderResponseDTO> page = supplyOrderService.getSupplyOrdersPage(null, 30, "EN_ATTENTE");
+            assertEquals(30, page.getItems().size());
+            assertEquals(2, page.getItems().get(29).getMaterials().size());
+        });
+
+        assertEquals(1, listQueries);
+        assertEquals(2, smallPageQueries);
+        assertEquals(smallPageQueries, largePageQueries);
+    }
+
+    private long countQueries(Runnable read) {
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+        read.run();
+        return statistics.getPrepareStatementCount();
+    }
+
+    private void createOrders(int count, SupplyOrderStatus status) {
+        for (int i = 0; i < count; i++) {
+            Supplier supplier = new Supplier();
+            supplier.setName("Fournisseur " + status + " " + i);
+            supplier.setRating(4.0);
+            supplier.setLeadTime(5);
+            entityManager.persist(supplier);
+
+            SupplyOrder order = new SupplyOrder();
+            order.setSupplier(supplier);
+            order.setMaterials(List.of(material("Acier " + i), material("Cuivre " + i)));
+            order.setOrderDate(LocalDate.now());
+            order.setStatus(status);
+            entityManager.persist(order);
+        }
+    }
+
+    private RawMaterial material(String name) {
+        RawMaterial material = new RawMaterial();
+        material.setName(name);
+        material.setStock(100);
+        material.setStockMin(10);
+        material.setUnit("kg");
+        entityManager.persist(material);
+        return material;
+    }
+}
@@ -0,0 +1,141 @@
+package com.supplychainx.common.datasource;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.orm.jpa.EntityManagerHolder;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Deux bases H2 en mémoire jouent le primaire et le réplica ; chacune contient une table
+ * {@code node} qui indique sur quelle base la requête a été exécutée.
+ */
+class ReadWriteRoutingDataSourceTest {
+
+    private final long[] now = {0};
+    private final Long[] caller = {42L};
+
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate readWrite;
+    private TransactionTemplate readOnly;
+
+    @BeforeEach
+    void setUp() {
+        DataSource primary = node("routing_primary", "primary");
+        DataSource replica = node("routing_replica", "replica");
+        ReplicaStickiness stickiness = new ReplicaStickiness(Duration.ofSeconds(5), () -> now[0],
+                () -> Optional.ofNullable(caller[0]));
+        DataSource routing = new LazyConnectionDataSourceProxy(
+                new ReadWriteRoutingDataSource(primary, replica, stickiness, new SimpleMeterRegistry()));
+
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(routing);
+        jdbcTemplate = new JdbcTemplate(routing);
+        readWrite = new TransactionTemplate(transactionManager);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    @DisplayName("Les transactions readOnly vont au réplica, les autres au primaire")
+    void testRoutesByTransactionReadOnlyFlag() {
+        caller[0] = null;
+
+        assertEquals("replica", readOnly.execute(status -> currentNode()));
+        assertEquals("primary", readWrite.execute(status -> currentNode()));
+        assertEquals("primary", currentNode());
+    }
+
+    @Test
+    @DisplayName("Après une écriture, la même requête HTTP lit sur le primaire")
+    void testSameRequestReadsItsOwnWrites() {
+        caller[0] = null;
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+
+        assertEquals("replica", readOnly.execute(status -> currentNode()));
+        readWrite.executeWithoutResult(status -> currentNode());
+
+        assertEquals("primary", readOnly.execute(status -> currentNode()));
+    }
+
+    @Test
+    @DisplayName("Le même utilisateur reste sur le primaire pendant la fenêtre qui suit son écriture")
+    void testCallerStickyDuringWindow() {
+        readWrite.executeWithoutResult(status -> currentNode());
+
+        now[0] += TimeUnit.SECONDS.toNanos(4);
+        assertEquals("primary", readOnly.execute(status -> currentNode()));
+
+        caller[0] = 7L;
+        assertEquals("replica", readOnly.execute(status -> currentNode()));
+
+        caller[0] = 42L;
+        now[0] += TimeUnit.SECONDS.toNanos(2);
+        assertEquals("replica", readOnly.execute(status -> currentNode()));
+    }
+
+    @Test
+    @DisplayName("Une session routée vers le réplica n'alimente pas le cache de second niveau")
+    void testReplicaSessionDoesNotPopulateSharedCache() {
+        caller[0] = null;
+        Session session = mock(Session.class);
+        EntityManager entityManager = mock(EntityManager.class);
+        when(entityManager.unwrap(Session.class)).thenReturn(session);
+        when(session.getCacheMode()).thenReturn(CacheMode.NORMAL);
+        when(session.isOpen()).thenReturn(true);
+        Object key = new Object();
+        TransactionSynchronizationManager.bindResource(key, new EntityManagerHolder(entityManager));
+        try {
+            assertEquals("primary", readWrite.execute(status -> currentNode()));
+            verify(session, never()).setCacheMode(any());
+
+            assertEquals("replica", readOnly.execute(status -> currentNode()));
+        } finally {
+            TransactionSynchronizationManager.unbindResource(key);
+        }
+
+        InOrder inOrder = inOrder(session);
+        inOrder.verify(session).setCacheMode(CacheMode.GET);
+        inOrder.verify(session).setCacheMode(CacheMode.NORMAL);
+    }
+
+    private String currentNode() {
+        return jdbcTemplate.queryForObject("SELECT name FROM node", String.class);
+    }
+
+    private static DataSource node(String database, String name) {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:" + database + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        jdbc.execute("CREATE TABLE IF NOT EXISTS node (name VARCHAR(16))");
+        jdbc.update("DELETE FROM node");
+        jdbc.update("INSERT INTO node (name) VALUES (?)", name);
+        return dataSource;
+    }
+}
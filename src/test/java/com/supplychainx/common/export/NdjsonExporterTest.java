@@ -0,0 +1,72 @@
+package com.supplychainx.common.export;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+
+@ExtendWith(MockitoExtension.class)
+class NdjsonExporterTest {
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private NdjsonExporter ndjsonExporter;
+
+    @BeforeEach
+    void setUp() {
+        ndjsonExporter = new NdjsonExporter(entityManager, transactionManager, new ObjectMapper(), 2);
+    }
+
+    @Test
+    void testExport_ShouldWriteOneJsonObjectPerLine() throws Exception {
+        AtomicBoolean closed = new AtomicBoolean();
+        StreamingResponseBody body = ndjsonExporter.export(
+                () -> Stream.of(1L, 2L, 3L, 4L, 5L).onClose(() -> closed.set(true)),
+                id -> Map.of("id", id));
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        body.writeTo(output);
+
+        assertEquals("{\"id\":1}\n{\"id\":2}\n{\"id\":3}\n{\"id\":4}\n{\"id\":5}\n",
+                output.toString(StandardCharsets.UTF_8));
+        assertTrue(closed.get());
+        verify(entityManager, times(2)).clear();
+        verify(transactionManager, times(1)).getTransaction(any());
+        verify(transactionManager, times(1)).commit(any());
+    }
+
+    @Test
+    void testExport_QueryRunsOnlyWhenBodyIsWritten() throws Exception {
+        AtomicBoolean queried = new AtomicBoolean();
+
+        StreamingResponseBody body = ndjsonExporter.export(() -> {
+            queried.set(true);
+            return Stream.<Long>empty();
+        }, id -> id);
+
+        assertFalse(queried.get());
+        body.writeTo(new ByteArrayOutputStream());
+        assertTrue(queried.get());
+        verifyNoInteractions(entityManager);
+    }
+}
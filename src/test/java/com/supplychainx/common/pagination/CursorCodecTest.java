@@ -0,0 +1,61 @@
+package com.supplychainx.common.pagination;
+
+import com.supplychainx.common.dto.CursorPageDTO;
+import com.supplychainx.exception.BusinessRuleException;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Limit;
+
+import java.util.List;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+
+class CursorCodecTest {
+
+    @Test
+    void testEncodeDecode_ShouldRoundTrip() {
+        String cursor = CursorCodec.encode(12345L);
+
+        assertFalse(cursor.contains("12345"));
+        assertEquals(12345L, CursorCodec.decode(cursor));
+    }
+
+    @Test
+    void testDecode_WithoutCursor_ShouldStartFromBeginning() {
+        assertEquals(0L, CursorCodec.decode(null));
+        assertEquals(0L, CursorCodec.decode(" "));
+    }
+
+    @Test
+    void testDecode_WithInvalidCursor_ShouldThrowException() {
+        assertThrows(BusinessRuleException.class, () -> CursorCodec.decode("pas-un-curseur!"));
+        assertThrows(BusinessRuleException.class, () -> CursorCodec.decode(CursorCodec.encode(1L).substring(2)));
+    }
+
+    @Test
+    void testFetchLimit_ShouldReadOneExtraRow() {
+        assertEquals(Limit.of(CursorCodec.DEFAULT_LIMIT + 1), CursorCodec.fetchLimit(null));
+        assertEquals(Limit.of(11), CursorCodec.fetchLimit(10));
+        assertThrows(BusinessRuleException.class, () -> CursorCodec.fetchLimit(0));
+        assertThrows(BusinessRuleException.class, () -> CursorCodec.fetchLimit(CursorCodec.MAX_LIMIT + 1));
+    }
+
+    @Test
+    void testPage_ShouldTrimExtraRowAndPointCursorAtLastItem() {
+        CursorPageDTO<String> page = CursorCodec.page(List.of(3L, 7L, 9L), 2, Function.identity(), String::valueOf);
+
+        assertEquals(List.of("3", "7"), page.getItems());
+        assertTrue(page.isHasMore());
+        assertEquals(7L, CursorCodec.decode(page.getNextCursor()));
+    }
+
+    @Test
+    void testPage_LastPage_ShouldHaveNoCursor() {
+        CursorPageDTO<String> page = CursorCodec.page(List.of(3L), 2, Function.identity(), String::valueOf);
+
+        assertEquals(List.of("3"), page.getItems());
+        assertFalse(page.isHasMore());
+        assertNull(page.getNextCursor());
+    }
+}
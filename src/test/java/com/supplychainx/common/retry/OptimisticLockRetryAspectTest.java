@@ -0,0 +1,81 @@
+package com.supplychainx.common.retry;
+
+import com.supplychainx.exception.ConflictException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OptimisticLockRetryAspectTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private StockOperations operations;
+    private StockOperations proxy;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        operations = new StockOperations();
+        AspectJProxyFactory factory = new AspectJProxyFactory(operations);
+        factory.setProxyTargetClass(true);
+        factory.addAspect(new OptimisticLockRetryAspect(meterRegistry));
+        proxy = factory.getProxy();
+    }
+
+    @Test
+    @DisplayName("Rejoue l'opération jusqu'à ce que le conflit disparaisse")
+    void testRetriesUntilSuccess() {
+        operations.conflictsBeforeSuccess = 2;
+
+        assertEquals(3, proxy.adjust());
+        assertEquals(3, operations.calls);
+        assertEquals(2.0, count("optimistic_lock.conflicts"));
+        // Le compteur d'abandons n'est enregistré qu'au premier épuisement des tentatives
+        assertNull(meterRegistry.find("optimistic_lock.exhausted").counter());
+    }
+
+    @Test
+    @DisplayName("Lève un conflit (409) une fois les tentatives épuisées")
+    void testExhaustedAttemptsRaiseConflict() {
+        operations.conflictsBeforeSuccess = 10;
+
+        assertThrows(ConflictException.class, () -> proxy.adjust());
+        assertEquals(3, operations.calls);
+        assertEquals(1.0, count("optimistic_lock.exhausted"));
+    }
+
+    @Test
+    @DisplayName("Les autres exceptions ne sont pas rejouées")
+    void testOtherExceptionsNotRetried() {
+        operations.failure = new IllegalStateException("boom");
+
+        assertThrows(IllegalStateException.class, () -> proxy.adjust());
+        assertEquals(1, operations.calls);
+    }
+
+    private double count(String name) {
+        return meterRegistry.get(name).tag("operation", "StockOperations.adjust").counter().count();
+    }
+
+    static class StockOperations {
+        int conflictsBeforeSuccess;
+        int calls;
+        RuntimeException failure;
+
+        @RetryOnOptimisticLock(maxAttempts = 3, initialBackoffMillis = 0)
+        public int adjust() {
+            calls++;
+            if (failure != null) {
+                throw failure;
+            }
+            if (calls <= conflictsBeforeSuccess) {
+                throw new ObjectOptimisticLockingFailureException(Object.class, 1L);
+            }
+            return calls;
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.supplychainx.common.service;
+
+import com.supplychainx.common.dto.UserBulkCreateResponseDTO;
+import com.supplychainx.common.dto.UserCreateDTO;
+import com.supplychainx.common.enums.ProvisioningStatus;
+import com.supplychainx.common.enums.UserRole;
+import com.supplychainx.common.repository.UserRepository;
+import com.supplychainx.security.KnownEmailFilter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+
+@ExtendWith(MockitoExtension.class)
+class UserProvisioningServiceTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private PasswordEncoder passwordEncoder;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private KnownEmailFilter knownEmailFilter;
+
+    private UserProvisioningService userProvisioningService;
+    private final AtomicLong nextId = new AtomicLong(100);
+
+    @BeforeEach
+    void setUp() {
+        userProvisioningService = new UserProvisioningService(userRepository, passwordEncoder, jdbcTemplate,
+                transactionManager, knownEmailFilter, 2, 2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        userProvisioningService.destroy();
+    }
+
+    @Test
+    void testCreateUsers_ShouldRejectExistingAndDuplicateEmails() {
+        List<UserCreateDTO> users = List.of(
+                user("a@supplychainx.com"),
+                user("existant@supplychainx.com"),
+                user("b@supplychainx.com"),
+                user("A@supplychainx.com"),
+                user("c@supplychainx.com"));
+        when(userRepository.findEmailsIn(anyCollection())).thenReturn(List.of("Existant@supplychainx.com"));
+        when(passwordEncoder.encode(anyString())).thenReturn("hashedPassword");
+        stubBatchInsert();
+
+        UserBulkCreateResponseDTO report = userProvisioningService.createUsers(users);
+
+        assertEquals(3, report.getCreated());
+        assertEquals(2, report.getRejected());
+        assertEquals(ProvisioningStatus.CREE, report.getResults().get(0).getStatus());
+        assertEquals(100L, report.getResults().get(0).getIdUser());
+        assertEquals(ProvisioningStatus.REJETE, report.getResults().get(1).getStatus());
+        assertEquals("Un utilisateur avec cet email existe déjà", report.getResults().get(1).getMessage());
+        assertEquals(101L, report.getResults().get(2).getIdUser());
+        assertEquals(ProvisioningStatus.REJETE, report.getResults().get(3).getStatus());
+        assertEquals(102L, report.getResults().get(4).getIdUser());
+
+        verify(userRepository, times(1)).findEmailsIn(anyCollection());
+        verify(passwordEncoder, times(3)).encode("password123");
+        verify(jdbcTemplate, times(2)).batchUpdate(any(PreparedStatementCreator.class),
+                any(BatchPreparedStatementSetter.class), any(KeyHolder.class));
+        verify(knownEmailFilter, times(3)).add(anyString());
+    }
+
+    @Test
+    void testCreateUsers_AllExisting_ShouldNotInsert() {
+        when(userRepository.findEmailsIn(anyCollection())).thenReturn(List.of("a@supplychainx.com"));
+
+        UserBulkCreateResponseDTO report = userProvisioningService.createUsers(List.of(user("a@supplychainx.com")));
+
+        assertEquals(0, report.getCreated());
+        assertEquals(1, report.getRejected());
+        verifyNoInteractions(passwordEncoder, jdbcTemplate, transactionManager, knownEmailFilter);
+    }
+
+    private void stubBatchInsert() {
+        doAnswer(invocation -> {
+            BatchPreparedStatementSetter setter = invocation.getArgument(1);
+            KeyHolder keyHolder = invocation.getArgument(2);
+            for (int i = 0; i < setter.getBatchSize(); i++) {
+                keyHolder.getKeyList().add(Map.of("id_user", nextId.getAndIncrement()));
+            }
+            return new int[setter.getBatchSize()];
+        }).when(jdbcTemplate).batchUpdate(any(PreparedStatementCreator.class),
+                any(BatchPreparedStatementSetter.class), any(KeyHolder.class));
+    }
+
+    private static UserCreateDTO user(String email) {
+        return new UserCreateDTO("Jean", "Dupont", email, "password123", UserRole.PLANIFICATEUR);
+    }
+}
@@ -9,6 +9,8 @@ import com.supplychainx.common.repository.UserRepository;
 import com.supplychainx.exception.BusinessRuleException;
 import com.supplychainx.exception.ResourceNotFoundException;
 import com.supplychainx.mapper.UserMapper;
+import com.supplychainx.security.AuthenticationCache;
+import com.supplychainx.security.KnownEmailFilter;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -37,6 +39,12 @@ class UserServiceTest {
     @Mock
     private UserMapper userMapper;
 
+    @Mock
+    private AuthenticationCache authenticationCache;
+
+    @Mock
+    private KnownEmailFilter knownEmailFilter;
+
     @InjectMocks
     private UserService userService;
 
@@ -89,6 +97,7 @@ class UserServiceTest {
         verify(passwordEncoder, times(1)).encode(createDTO.getPassword());
         verify(userRepository, times(1)).save(any(User.class));
         verify(userMapper, times(1)).toResponseDTO(user);
+        verify(knownEmailFilter, times(1)).add(createDTO.getEmail());
     }
 
     @Test
@@ -193,6 +202,7 @@ class UserServiceTest {
         verify(userRepository, times(1)).findById(1L);
         verify(userRepository, times(1)).save(user);
         verify(userMapper, times(1)).toResponseDTO(user);
+        verify(authenticationCache, times(1)).evictAfterCommit(user.getEmail());
     }
 
     @Test
@@ -191,6 +191,25 @@ class DeliveryControllerIntegrationTest {
     }
 
 
+    @Test
+    @DisplayName("GET /api/deliveries?status= - Projection plate avec commande, client et produit")
+    void testGetDeliveriesByStatus_ReturnsRowProjection() throws Exception {
+        mockMvc.perform(get("/api/deliveries")
+                .param("status", "PLANIFIEE")
+                .header("email", testUserEmail).header("password", testUserPassword))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].idDelivery", is(testDelivery.getIdDelivery().intValue())))
+                .andExpect(jsonPath("$[0].vehicle", is("Camion")))
+                .andExpect(jsonPath("$[0].status", is("PLANIFIEE")))
+                .andExpect(jsonPath("$[0].cost", is(550.0)))
+                .andExpect(jsonPath("$[0].order.idOrder", is(testOrder.getIdOrder().intValue())))
+                .andExpect(jsonPath("$[0].order.status", is("EN_PREPARATION")))
+                .andExpect(jsonPath("$[0].order.customer.city", is("Paris")))
+                .andExpect(jsonPath("$[0].order.product.name", is("Produit Test")))
+                .andExpect(jsonPath("$[0].order.product.stock", is(100)));
+    }
+
     @Test
     @DisplayName("GET /api/deliveries/{id} - Livraison trouvée")
     void testGetDeliveryById_Found() throws Exception {
@@ -3,6 +3,7 @@ package com.supplychainx.livraison.service;
 import com.supplychainx.exception.ResourceNotFoundException;
 import com.supplychainx.livraison.dto.DeliveryRequestDTO;
 import com.supplychainx.livraison.dto.DeliveryResponseDTO;
+import com.supplychainx.livraison.dto.DeliveryRowDTO;
 import com.supplychainx.livraison.entity.Customer;
 import com.supplychainx.livraison.entity.Delivery;
 import com.supplychainx.livraison.entity.Order;
@@ -12,7 +13,9 @@ import com.supplychainx.livraison.repository.DeliveryRepository;
 import com.supplychainx.livraison.repository.OrderRepository;
 import com.supplychainx.mapper.CustomerMapper;
 import com.supplychainx.mapper.DeliveryMapper;
+import com.supplychainx.mapper.DeliveryMapperImpl;
 import com.supplychainx.mapper.OrderMapper;
+import com.supplychainx.mapper.OrderMapperImpl;
 import com.supplychainx.mapper.ProductMapper;
 import com.supplychainx.production.entity.Product;
 import org.junit.jupiter.api.BeforeEach;
@@ -22,6 +25,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.time.LocalDate;
 import java.util.ArrayList;
@@ -300,4 +304,34 @@ class DeliveryServiceTest {
         assertNotNull(associatedOrder.getProduct());
         assertNotNull(associatedOrder.getCustomer());
     }
+
+    @Test
+    @DisplayName("Lister les livraisons par statut via la projection plate")
+    void testGetDeliveriesByStatus_UsesRowProjection() {
+        DeliveryRowDTO row = new DeliveryRowDTO(1L, "Camion", "Jean Dupont", DeliveryStatus.PLANIFIEE,
+                LocalDate.now().plusDays(2), 150.0,
+                1L, 10, OrderStatus.EN_PREPARATION,
+                1L, "Client Test", "123 Rue Test", "Paris",
+                1L, "Produit Test", 120, 500.0, 100);
+        when(deliveryRepository.findRowsByStatus(DeliveryStatus.PLANIFIEE)).thenReturn(List.of(row));
+        DeliveryMapper realDeliveryMapper = new DeliveryMapperImpl();
+        ReflectionTestUtils.setField(realDeliveryMapper, "orderMapper", new OrderMapperImpl());
+        DeliveryService service = new DeliveryService(deliveryRepository, orderRepository, realDeliveryMapper,
+                orderMapper, customerMapper, productMapper, null);
+
+        List<DeliveryResponseDTO> result = service.getDeliveriesByStatus("PLANIFIEE");
+
+        assertEquals(1, result.size());
+        DeliveryResponseDTO dto = result.get(0);
+        assertEquals(1L, dto.getIdDelivery());
+        assertEquals("Camion", dto.getVehicle());
+        assertEquals("PLANIFIEE", dto.getStatus());
+        assertEquals(150.0, dto.getCost());
+        assertEquals(1L, dto.getOrder().getIdOrder());
+        assertEquals("EN_PREPARATION", dto.getOrder().getStatus());
+        assertEquals("Paris", dto.getOrder().getCustomer().getCity());
+        assertEquals("Produit Test", dto.getOrder().getProduct().getName());
+        assertEquals(100, dto.getOrder().getProduct().getStock());
+        verify(deliveryRepository, never()).findByStatus(any());
+    }
 }
@@ -0,0 +1,98 @@
+package com.supplychainx.livraison.service;
+
+import com.supplychainx.exception.ResourceNotFoundException;
+import com.supplychainx.livraison.dto.OrderBatchCreateDTO;
+import com.supplychainx.livraison.dto.OrderRequestDTO;
+import com.supplychainx.livraison.dto.OrderResponseDTO;
+import com.supplychainx.livraison.entity.Customer;
+import com.supplychainx.livraison.entity.Order;
+import com.supplychainx.livraison.enums.OrderStatus;
+import com.supplychainx.livraison.repository.CustomerRepository;
+import com.supplychainx.livraison.repository.OrderRepository;
+import com.supplychainx.mapper.OrderMapper;
+import com.supplychainx.production.entity.Product;
+import com.supplychainx.production.repository.ProductRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+
+@ExtendWith(MockitoExtension.class)
+class OrderServiceTest {
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    @Mock
+    private CustomerRepository customerRepository;
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private OrderMapper orderMapper;
+
+    @InjectMocks
+    private OrderService orderService;
+
+    private Customer customer;
+    private Product product;
+
+    @BeforeEach
+    void setUp() {
+        customer = new Customer();
+        customer.setIdCustomer(1L);
+        customer.setName("Client Test");
+
+        product = new Product();
+        product.setIdProduct(2L);
+        product.setName("Produit Test");
+    }
+
+    @Test
+    @DisplayName("Créer un lot de commandes avec un seul saveAll")
+    @SuppressWarnings("unchecked")
+    void testCreateOrders_SavesWholeBatch() {
+        OrderBatchCreateDTO dto = new OrderBatchCreateDTO(List.of(
+                new OrderRequestDTO(1L, 2L, 5, "EN_PREPARATION"),
+                new OrderRequestDTO(1L, 2L, 7, "EN_PREPARATION")));
+        when(customerRepository.findAllById(any())).thenReturn(List.of(customer));
+        when(productRepository.findAllById(any())).thenReturn(List.of(product));
+        when(orderRepository.saveAll(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(orderMapper.toResponseDTO(any(Order.class))).thenReturn(new OrderResponseDTO());
+
+        List<OrderResponseDTO> result = orderService.createOrders(dto);
+
+        assertEquals(2, result.size());
+        ArgumentCaptor<List<Order>> saved = ArgumentCaptor.forClass(List.class);
+        verify(orderRepository).saveAll(saved.capture());
+        assertEquals(2, saved.getValue().size());
+        assertEquals(OrderStatus.EN_PREPARATION, saved.getValue().get(0).getStatus());
+        assertSame(customer, saved.getValue().get(1).getCustomer());
+        verify(orderRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("Refuser le lot entier si un produit est inconnu")
+    void testCreateOrders_UnknownProduct() {
+        OrderBatchCreateDTO dto = new OrderBatchCreateDTO(List.of(
+                new OrderRequestDTO(1L, 2L, 5, "EN_PREPARATION"),
+                new OrderRequestDTO(1L, 99L, 7, "EN_PREPARATION")));
+        when(customerRepository.findAllById(any())).thenReturn(List.of(customer));
+        when(productRepository.findAllById(any())).thenReturn(List.of(product));
+
+        assertThrows(ResourceNotFoundException.class, () -> orderService.createOrders(dto));
+        verify(orderRepository, never()).saveAll(any());
+    }
+}
@@ -0,0 +1,151 @@
+package com.supplychainx.production.service;
+
+import com.supplychainx.approvisionnement.repository.RawMaterialRepository;
+import com.supplychainx.exception.BusinessRuleException;
+import com.supplychainx.mapper.BillOfMaterialMapper;
+import com.supplychainx.production.dto.BillOfMaterialRequestDTO;
+import com.supplychainx.production.dto.BillOfMaterialResponseDTO;
+import com.supplychainx.production.entity.BillOfMaterial;
+import com.supplychainx.production.entity.Product;
+import com.supplychainx.production.repository.BillOfMaterialRepository;
+import com.supplychainx.production.repository.ProductRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BillOfMaterialServiceTest {
+
+    @Mock
+    private BillOfMaterialRepository billOfMaterialRepository;
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private RawMaterialRepository rawMaterialRepository;
+
+    @Mock
+    private BillOfMaterialMapper billOfMaterialMapper;
+
+    @Mock
+    private BomExplosionEngine bomExplosionEngine;
+
+    @InjectMocks
+    private BillOfMaterialService billOfMaterialService;
+
+    private Product bike;
+    private Product wheel;
+
+    @BeforeEach
+    void setUp() {
+        bike = new Product();
+        bike.setIdProduct(1L);
+        bike.setName("Vélo");
+
+        wheel = new Product();
+        wheel.setIdProduct(2L);
+        wheel.setName("Roue");
+    }
+
+    @Test
+    @DisplayName("Ajouter un sous-ensemble à une nomenclature")
+    void testCreateBillOfMaterial_SubAssembly() {
+        BillOfMaterialRequestDTO dto = new BillOfMaterialRequestDTO(1L, null, 2L, 2);
+        when(productRepository.findById(1L)).thenReturn(Optional.of(bike));
+        when(productRepository.findById(2L)).thenReturn(Optional.of(wheel));
+        when(billOfMaterialMapper.toEntity(dto)).thenReturn(new BillOfMaterial());
+        when(bomExplosionEngine.subAssemblyWriteScope(1L, 2L)).thenAnswer(invocation -> new HashSet<>(Set.of(1L, 2L)));
+        when(bomExplosionEngine.createsCycle(1L, 2L)).thenReturn(false);
+        when(billOfMaterialRepository.save(any(BillOfMaterial.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(billOfMaterialMapper.toResponseDTO(any(BillOfMaterial.class))).thenReturn(new BillOfMaterialResponseDTO());
+
+        billOfMaterialService.createBillOfMaterial(dto);
+
+        ArgumentCaptor<BillOfMaterial> saved = ArgumentCaptor.forClass(BillOfMaterial.class);
+        verify(billOfMaterialRepository).save(saved.capture());
+        assertSame(bike, saved.getValue().getProduct());
+        assertSame(wheel, saved.getValue().getChildProduct());
+        assertNull(saved.getValue().getMaterial());
+        verify(bomExplosionEngine).reloadAfterCommit();
+        verifyNoInteractions(rawMaterialRepository);
+        InOrder inOrder = inOrder(productRepository, bomExplosionEngine);
+        inOrder.verify(productRepository).lockForSubAssemblyWrite(Set.of(1L, 2L));
+        inOrder.verify(productRepository).findById(1L);
+        inOrder.verify(bomExplosionEngine).createsCycle(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("Verrouiller aussi les produits apparus dans la portée entre deux lectures")
+    void testCreateBillOfMaterial_LocksScopeUntilStable() {
+        BillOfMaterialRequestDTO dto = new BillOfMaterialRequestDTO(1L, null, 2L, 2);
+        when(bomExplosionEngine.subAssemblyWriteScope(1L, 2L)).thenReturn(
+                new HashSet<>(Set.of(1L, 2L)), new HashSet<>(Set.of(1L, 2L, 3L)), new HashSet<>(Set.of(1L, 2L, 3L)));
+        when(productRepository.findById(1L)).thenReturn(Optional.of(bike));
+        when(productRepository.findById(2L)).thenReturn(Optional.of(wheel));
+        when(billOfMaterialMapper.toEntity(dto)).thenReturn(new BillOfMaterial());
+        when(bomExplosionEngine.createsCycle(1L, 2L)).thenReturn(false);
+        when(billOfMaterialRepository.save(any(BillOfMaterial.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(billOfMaterialMapper.toResponseDTO(any(BillOfMaterial.class))).thenReturn(new BillOfMaterialResponseDTO());
+
+        billOfMaterialService.createBillOfMaterial(dto);
+
+        InOrder inOrder = inOrder(productRepository, bomExplosionEngine);
+        inOrder.verify(productRepository).lockForSubAssemblyWrite(Set.of(1L, 2L));
+        inOrder.verify(productRepository).lockForSubAssemblyWrite(Set.of(3L));
+        inOrder.verify(bomExplosionEngine).createsCycle(1L, 2L);
+        verify(bomExplosionEngine, times(3)).subAssemblyWriteScope(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("Refuser un sous-ensemble qui contient déjà le produit")
+    void testCreateBillOfMaterial_CycleRejected() {
+        BillOfMaterialRequestDTO dto = new BillOfMaterialRequestDTO(2L, null, 1L, 1);
+        when(productRepository.findById(2L)).thenReturn(Optional.of(wheel));
+        when(productRepository.findById(1L)).thenReturn(Optional.of(bike));
+        when(billOfMaterialMapper.toEntity(dto)).thenReturn(new BillOfMaterial());
+        when(bomExplosionEngine.createsCycle(2L, 1L)).thenReturn(true);
+
+        assertThrows(BusinessRuleException.class, () -> billOfMaterialService.createBillOfMaterial(dto));
+        verify(billOfMaterialRepository, never()).save(any());
+        verify(bomExplosionEngine, never()).reloadAfterCommit();
+    }
+
+    @Test
+    @DisplayName("Refuser une ligne qui référence à la fois une matière et un sous-ensemble")
+    void testCreateBillOfMaterial_MaterialAndSubAssemblyRejected() {
+        BillOfMaterialRequestDTO dto = new BillOfMaterialRequestDTO(1L, 10L, 2L, 1);
+        when(productRepository.findById(1L)).thenReturn(Optional.of(bike));
+        when(billOfMaterialMapper.toEntity(dto)).thenReturn(new BillOfMaterial());
+
+        assertThrows(BusinessRuleException.class, () -> billOfMaterialService.createBillOfMaterial(dto));
+        verify(billOfMaterialRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("Refuser une ligne sans composant")
+    void testCreateBillOfMaterial_NoComponentRejected() {
+        BillOfMaterialRequestDTO dto = new BillOfMaterialRequestDTO(1L, null, null, 1);
+        when(productRepository.findById(1L)).thenReturn(Optional.of(bike));
+        when(billOfMaterialMapper.toEntity(dto)).thenReturn(new BillOfMaterial());
+
+        assertThrows(BusinessRuleException.class, () -> billOfMaterialService.createBillOfMaterial(dto));
+        verify(billOfMaterialRepository, never()).save(any());
+        verify(productRepository, never()).lockForSubAssemblyWrite(any());
+    }
+}
@@ -0,0 +1,91 @@
+package com.supplychainx.production.service;
+
+import com.supplychainx.exception.BusinessRuleException;
+import com.supplychainx.production.dto.BomLineDTO;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+
+class BomGraphTest {
+
+    // Vélo (1) = 2 roues (2) + cadre (3) ; roue = 1 jante (10) + 36 rayons (11) ;
+    // cadre = 4 tubes (12) + 2 rayons (11)
+    private final BomGraph graph = BomGraph.of(List.of(
+            material(1L, 12L, 1),
+            child(1L, 2L, 2),
+            child(1L, 3L, 1),
+            material(2L, 10L, 1),
+            material(2L, 11L, 36),
+            material(3L, 12L, 4),
+            material(3L, 11L, 2)));
+
+    @Test
+    @DisplayName("Besoins à plat sur plusieurs niveaux, matières communes cumulées")
+    void testRequirementsPerUnit_FlattensSubAssemblies() {
+        Map<Long, Long> requirements = graph.requirementsPerUnit(1L).times(1);
+
+        assertEquals(Map.of(12L, 5L, 10L, 2L, 11L, 74L), requirements);
+        assertEquals(List.of(12L, 10L, 11L), List.copyOf(requirements.keySet()));
+        assertEquals(Map.of(12L, 15L, 10L, 6L, 11L, 222L), graph.requirementsPerUnit(1L).times(3));
+    }
+
+    @Test
+    @DisplayName("Les besoins sont calculés à la construction puis seulement relus")
+    void testRequirementsPerUnit_PrecomputedOnce() {
+        MaterialRequirements wheel = graph.requirementsPerUnit(2L);
+
+        assertSame(wheel, graph.requirementsPerUnit(2L));
+        assertEquals(2, wheel.size());
+        assertEquals(11L, wheel.materialId(1));
+        assertEquals(36L, wheel.quantityPerUnit(1));
+        assertEquals(3, graph.productCount());
+    }
+
+    @Test
+    @DisplayName("Un produit sans nomenclature n'a aucun besoin")
+    void testRequirementsPerUnit_NoBillOfMaterials() {
+        assertEquals(0, graph.requirementsPerUnit(99L).size());
+    }
+
+    @Test
+    @DisplayName("Atteignabilité des sous-ensembles pour la détection de cycles")
+    void testReaches() {
+        assertTrue(graph.reaches(1L, 2L));
+        assertTrue(graph.reaches(2L, 2L));
+        assertFalse(graph.reaches(2L, 1L));
+        assertFalse(graph.reaches(3L, 2L));
+    }
+
+    @Test
+    @DisplayName("Produits contenus dans un sous-ensemble, lui-même compris")
+    void testReachableFrom() {
+        assertEquals(Set.of(1L, 2L, 3L), graph.reachableFrom(1L));
+        assertEquals(Set.of(2L), graph.reachableFrom(2L));
+        assertEquals(Set.of(99L), graph.reachableFrom(99L));
+    }
+
+    @Test
+    @DisplayName("Un cycle déjà présent en base n'affecte que les produits concernés")
+    void testRequirementsPerUnit_CycleRejected() {
+        BomGraph cyclic = BomGraph.of(List.of(
+                child(1L, 2L, 1), child(2L, 1L, 1), child(3L, 1L, 1), material(4L, 10L, 2)));
+
+        assertThrows(BusinessRuleException.class, () -> cyclic.requirementsPerUnit(1L));
+        assertThrows(BusinessRuleException.class, () -> cyclic.requirementsPerUnit(3L));
+        assertEquals(Map.of(10L, 2L), cyclic.requirementsPerUnit(4L).times(1));
+    }
+
+    private static BomLineDTO material(Long productId, Long materialId, int quantity) {
+        return new BomLineDTO(productId, materialId, null, quantity);
+    }
+
+    private static BomLineDTO child(Long productId, Long childProductId, int quantity) {
+        return new BomLineDTO(productId, null, childProductId, quantity);
+    }
+}
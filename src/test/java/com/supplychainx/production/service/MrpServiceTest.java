@@ -0,0 +1,164 @@
+package com.supplychainx.production.service;
+
+import com.supplychainx.approvisionnement.dto.PendingSupplyRowDTO;
+import com.supplychainx.approvisionnement.entity.RawMaterial;
+import com.supplychainx.approvisionnement.repository.RawMaterialRepository;
+import com.supplychainx.approvisionnement.repository.SupplyOrderRepository;
+import com.supplychainx.exception.BusinessRuleException;
+import com.supplychainx.exception.ResourceNotFoundException;
+import com.supplychainx.production.dto.MaterialShortageDTO;
+import com.supplychainx.production.dto.MrpResultDTO;
+import com.supplychainx.production.dto.OpenProductionOrderRowDTO;
+import com.supplychainx.production.repository.ProductionOrderRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class MrpServiceTest {
+
+    @Mock
+    private ProductionOrderRepository productionOrderRepository;
+
+    @Mock
+    private SupplyOrderRepository supplyOrderRepository;
+
+    @Mock
+    private RawMaterialRepository rawMaterialRepository;
+
+    @Mock
+    private BomExplosionEngine bomExplosionEngine;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private MrpService mrpService;
+    private LocalDate today;
+    private RawMaterial steel;
+
+    @BeforeEach
+    void setUp() {
+        // Horizon de 28 jours en seaux hebdomadaires
+        mrpService = new MrpService(productionOrderRepository, supplyOrderRepository,
+                rawMaterialRepository, bomExplosionEngine, transactionManager, 28, 7);
+        today = LocalDate.now();
+
+        steel = new RawMaterial();
+        steel.setIdMaterial(10L);
+        steel.setName("Acier");
+        steel.setStock(100);
+    }
+
+    @Test
+    @DisplayName("Pénurie datée au seau où le stock projeté devient négatif")
+    void testRun_DatedShortage() {
+        when(productionOrderRepository.findRowsByStatusIn(any())).thenReturn(List.of(
+                new OpenProductionOrderRowDTO(1L, 5, today.minusDays(3)),
+                new OpenProductionOrderRowDTO(1L, 6, today.plusDays(8)),
+                new OpenProductionOrderRowDTO(1L, 50, today.plusDays(60))));
+        when(bomExplosionEngine.requirementsPerUnit(1L))
+                .thenReturn(new MaterialRequirements(new long[]{10L}, new long[]{10L}));
+        when(rawMaterialRepository.findAllById(any())).thenReturn(List.of(steel));
+        when(supplyOrderRepository.findPendingRowsByStatusIn(any())).thenReturn(List.of(
+                new PendingSupplyRowDTO(7L, 10L, today, 5),
+                new PendingSupplyRowDTO(8L, 99L, today, 5)));
+
+        MrpResultDTO result = mrpService.run();
+
+        // L'ordre à J+60 est hors horizon et n'est pas compté
+        assertEquals(2, result.getOpenOrders());
+        assertEquals(1, result.getShortages().size());
+        MaterialShortageDTO shortage = result.getShortages().get(0);
+        assertEquals(110L, shortage.getTotalDemand());
+        assertEquals(today.plusDays(7), shortage.getFirstShortageDate());
+        assertEquals(-10L, shortage.getShortageBuckets().get(0).getProjectedStock());
+        assertEquals(1, shortage.getPendingSupplies().size());
+        assertEquals(today.plusDays(5), shortage.getPendingSupplies().get(0).getExpectedDate());
+        assertSame(result, mrpService.getLatest());
+        verify(bomExplosionEngine, times(2)).requirementsPerUnit(1L);
+    }
+
+    @Test
+    @DisplayName("Aucune pénurie quand le stock couvre la demande")
+    void testRun_NoShortage() {
+        when(productionOrderRepository.findRowsByStatusIn(any())).thenReturn(List.of(
+                new OpenProductionOrderRowDTO(1L, 10, today)));
+        when(bomExplosionEngine.requirementsPerUnit(1L))
+                .thenReturn(new MaterialRequirements(new long[]{10L}, new long[]{10L}));
+        when(rawMaterialRepository.findAllById(any())).thenReturn(List.of(steel));
+        when(supplyOrderRepository.findPendingRowsByStatusIn(any())).thenReturn(List.of());
+
+        assertTrue(mrpService.run().getShortages().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Un ordre dont la nomenclature forme un cycle est compté comme ignoré")
+    void testRun_CyclicBillOfMaterialsSkipped() {
+        when(productionOrderRepository.findRowsByStatusIn(any())).thenReturn(List.of(
+                new OpenProductionOrderRowDTO(2L, 1, today)));
+        when(bomExplosionEngine.requirementsPerUnit(2L)).thenThrow(new BusinessRuleException("cycle"));
+        when(rawMaterialRepository.findAllById(any())).thenReturn(List.of());
+        when(supplyOrderRepository.findPendingRowsByStatusIn(any())).thenReturn(List.of());
+
+        MrpResultDTO result = mrpService.run();
+
+        assertEquals(1, result.getSkippedOrders());
+        assertEquals(0, result.getOpenOrders());
+        assertTrue(result.getShortages().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Le résultat n'est publié qu'après la validation de la transaction en lecture seule")
+    void testRun_PublishesAfterCommit() {
+        when(productionOrderRepository.findRowsByStatusIn(any())).thenReturn(List.of());
+        when(rawMaterialRepository.findAllById(any())).thenReturn(List.of());
+        when(supplyOrderRepository.findPendingRowsByStatusIn(any())).thenReturn(List.of());
+        doAnswer(invocation -> assertThrows(ResourceNotFoundException.class, () -> mrpService.getLatest()))
+                .when(transactionManager).commit(any());
+
+        MrpResultDTO result = mrpService.run();
+
+        verify(transactionManager).getTransaction(argThat(TransactionDefinition::isReadOnly));
+        assertSame(result, mrpService.getLatest());
+    }
+
+    @Test
+    @DisplayName("Le calcul de démarrage publie un résultat sans attendre l'exécution planifiée")
+    void testRunAtStartup_PublishesResult() {
+        when(productionOrderRepository.findRowsByStatusIn(any())).thenReturn(List.of());
+        when(rawMaterialRepository.findAllById(any())).thenReturn(List.of());
+        when(supplyOrderRepository.findPendingRowsByStatusIn(any())).thenReturn(List.of());
+
+        mrpService.runAtStartup();
+
+        assertEquals(0, mrpService.getLatest().getOpenOrders());
+    }
+
+    @Test
+    @DisplayName("Un échec du calcul de démarrage ne bloque pas le démarrage")
+    void testRunAtStartup_FailureIsLogged() {
+        when(productionOrderRepository.findRowsByStatusIn(any())).thenThrow(new IllegalStateException("base indisponible"));
+
+        assertDoesNotThrow(() -> mrpService.runAtStartup());
+        assertThrows(ResourceNotFoundException.class, () -> mrpService.getLatest());
+    }
+
+    @Test
+    @DisplayName("Pas de résultat avant le premier calcul")
+    void testGetLatest_BeforeFirstRun() {
+        assertThrows(ResourceNotFoundException.class, () -> mrpService.getLatest());
+    }
+}
@@ -0,0 +1,174 @@
+package com.supplychainx.production.service;
+
+import com.supplychainx.approvisionnement.entity.RawMaterial;
+import com.supplychainx.approvisionnement.repository.RawMaterialRepository;
+import com.supplychainx.exception.BusinessRuleException;
+import com.supplychainx.exception.ResourceNotFoundException;
+import com.supplychainx.production.dto.BatchAvailabilityRequestDTO;
+import com.supplychainx.production.dto.BatchAvailabilityResponseDTO;
+import com.supplychainx.production.dto.MaxProducibleResponseDTO;
+import com.supplychainx.production.dto.ProductQuantityDTO;
+import com.supplychainx.production.dto.ProductionAvailabilityResponseDTO;
+import com.supplychainx.production.entity.Product;
+import com.supplychainx.production.repository.ProductRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PlanningServiceTest {
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private RawMaterialRepository rawMaterialRepository;
+
+    @Mock
+    private BomExplosionEngine bomExplosionEngine;
+
+    @InjectMocks
+    private PlanningService planningService;
+
+    private Product bike;
+    private Product scooter;
+    private RawMaterial steel;
+
+    @BeforeEach
+    void setUp() {
+        bike = product(1L, "Vélo");
+        scooter = product(2L, "Trottinette");
+        scooter.setCost(200.0);
+
+        steel = new RawMaterial();
+        steel.setIdMaterial(10L);
+        steel.setName("Acier");
+        steel.setStock(100);
+    }
+
+    @Test
+    @DisplayName("Disponibilité d'un produit à partir des besoins à plat")
+    void testCheckMaterialAvailability_UsesFlattenedRequirements() {
+        when(productRepository.findById(1L)).thenReturn(Optional.of(bike));
+        when(bomExplosionEngine.explode(1L, 5)).thenReturn(Map.of(10L, 60L));
+        when(rawMaterialRepository.findAllById(any())).thenReturn(List.of(steel));
+
+        ProductionAvailabilityResponseDTO result = planningService.checkMaterialAvailability(1L, 5);
+
+        assertTrue(result.getCanProduce());
+        assertEquals(60, result.getMaterialsStatus().get(0).getRequiredQuantity());
+    }
+
+    @Test
+    @DisplayName("Chaque produit est faisable seul mais pas l'ensemble")
+    void testCheckBatchAvailability_CombinedDemandExceedsStock() {
+        when(productRepository.findAllById(any())).thenReturn(List.of(bike, scooter));
+        when(bomExplosionEngine.explode(1L, 5)).thenReturn(Map.of(10L, 60L));
+        when(bomExplosionEngine.explode(2L, 2)).thenReturn(Map.of(10L, 50L));
+        when(rawMaterialRepository.findAllById(any())).thenReturn(List.of(steel));
+
+        BatchAvailabilityResponseDTO result = planningService.checkBatchAvailability(new BatchAvailabilityRequestDTO(
+                List.of(new ProductQuantityDTO(1L, 5), new ProductQuantityDTO(2L, 2))));
+
+        assertEquals(2, result.getProducts().size());
+        assertTrue(result.getProducts().get(0).getCanProduce());
+        assertTrue(result.getProducts().get(1).getCanProduce());
+        assertEquals(110, result.getCombinedDemand().get(0).getRequiredQuantity());
+        assertFalse(result.getCanProduceAll());
+        verify(rawMaterialRepository, times(1)).findAllById(any());
+    }
+
+    @Test
+    @DisplayName("Refuser un besoin qui dépasse la capacité d'un entier")
+    void testCheckMaterialAvailability_RequirementOverflow() {
+        when(productRepository.findById(1L)).thenReturn(Optional.of(bike));
+        when(bomExplosionEngine.explode(1L, 5)).thenReturn(Map.of(10L, Integer.MAX_VALUE + 1L));
+        when(rawMaterialRepository.findAllById(any())).thenReturn(List.of(steel));
+
+        assertThrows(BusinessRuleException.class, () -> planningService.checkMaterialAvailability(1L, 5));
+    }
+
+    @Test
+    @DisplayName("Refuser une demande cumulée qui dépasse la capacité d'un long")
+    void testCheckBatchAvailability_CombinedDemandOverflow() {
+        when(productRepository.findAllById(any())).thenReturn(List.of(bike, scooter));
+        when(bomExplosionEngine.explode(1L, 5)).thenReturn(Map.of(10L, Long.MAX_VALUE));
+        when(bomExplosionEngine.explode(2L, 2)).thenReturn(Map.of(10L, 1L));
+
+        assertThrows(BusinessRuleException.class, () -> planningService.checkBatchAvailability(
+                new BatchAvailabilityRequestDTO(List.of(new ProductQuantityDTO(1L, 5), new ProductQuantityDTO(2L, 2)))));
+        verifyNoInteractions(rawMaterialRepository);
+    }
+
+    @Test
+    @DisplayName("Refuser la vérification groupée si un produit est inconnu")
+    void testCheckBatchAvailability_UnknownProduct() {
+        when(productRepository.findAllById(any())).thenReturn(List.of(bike));
+        when(bomExplosionEngine.explode(1L, 5)).thenReturn(Map.of(10L, 60L));
+
+        assertThrows(ResourceNotFoundException.class, () -> planningService.checkBatchAvailability(
+                new BatchAvailabilityRequestDTO(List.of(new ProductQuantityDTO(1L, 5), new ProductQuantityDTO(99L, 1)))));
+        verifyNoInteractions(rawMaterialRepository);
+    }
+
+    @Test
+    @DisplayName("Quantité maximale productible limitée par la matière goulot")
+    void testGetMaxProducible_Bottleneck() {
+        RawMaterial rubber = new RawMaterial();
+        rubber.setIdMaterial(11L);
+        rubber.setName("Caoutchouc");
+        rubber.setStock(30);
+        when(productRepository.findById(1L)).thenReturn(Optional.of(bike));
+        when(bomExplosionEngine.requirementsPerUnit(1L))
+                .thenReturn(new MaterialRequirements(new long[]{10L, 11L}, new long[]{12L, 4L}));
+        when(rawMaterialRepository.findAllById(any())).thenReturn(List.of(steel, rubber));
+
+        MaxProducibleResponseDTO result = planningService.getMaxProducible(1L);
+
+        assertEquals(7, result.getMaxQuantity());
+        assertEquals(11L, result.getBottleneckMaterialId());
+        assertEquals(7 * 250.0, result.getProducibleValue());
+    }
+
+    @Test
+    @DisplayName("Classement par valeur productible, produits sans nomenclature en dernier")
+    void testRankByProducibleValue() {
+        Product frame = product(3L, "Cadre");
+        when(productRepository.findAllById(any())).thenReturn(List.of(bike, scooter, frame));
+        when(bomExplosionEngine.requirementsPerUnit(1L)).thenReturn(requirement(10L, 50L));
+        when(bomExplosionEngine.requirementsPerUnit(2L)).thenReturn(requirement(10L, 10L));
+        when(bomExplosionEngine.requirementsPerUnit(3L)).thenReturn(MaterialRequirements.NONE);
+        when(rawMaterialRepository.findAllById(any())).thenReturn(List.of(steel));
+
+        List<MaxProducibleResponseDTO> ranking = planningService.rankByProducibleValue(List.of(3L, 1L, 2L, 1L));
+
+        assertEquals(List.of(2L, 1L, 3L), ranking.stream().map(MaxProducibleResponseDTO::getProductId).toList());
+        assertEquals(10, ranking.get(0).getMaxQuantity());
+        assertNull(ranking.get(2).getMaxQuantity());
+        verify(bomExplosionEngine, times(1)).requirementsPerUnit(1L);
+    }
+
+    private static MaterialRequirements requirement(long materialId, long quantityPerUnit) {
+        return new MaterialRequirements(new long[]{materialId}, new long[]{quantityPerUnit});
+    }
+
+    private static Product product(Long id, String name) {
+        Product product = new Product();
+        product.setIdProduct(id);
+        product.setName(name);
+        product.setCost(250.0);
+        return product;
+    }
+}
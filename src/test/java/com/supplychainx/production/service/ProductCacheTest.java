@@ -0,0 +1,113 @@
+package com.supplychainx.production.service;
+
+import com.supplychainx.common.entity.CacheRegions;
+import com.supplychainx.config.TestSecurityConfig;
+import com.supplychainx.production.dto.ProductCreateDTO;
+import com.supplychainx.production.dto.ProductResponseDTO;
+import com.supplychainx.production.dto.ProductUpdateDTO;
+import com.supplychainx.production.entity.Product;
+import com.supplychainx.production.repository.ProductRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Cache de second niveau des produits : chaque lecture s'exécute dans sa propre transaction
+ * (pas de @Transactional sur la classe), comme en production.
+ */
+@Import(TestSecurityConfig.class)
+@SpringBootTest
+@ActiveProfiles("test")
+class ProductCacheTest {
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private Long productId;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        productId = productService.createProduct(new ProductCreateDTO("Vélo cache", 60, 250.0, 10)).getIdProduct();
+    }
+
+    @AfterEach
+    void tearDown() {
+        productRepository.deleteById(productId);
+    }
+
+    @Test
+    @DisplayName("Une lecture par identifiant déjà en cache n'émet aucune requête")
+    void testFindById_ServedFromSecondLevelCache() {
+        productRepository.findById(productId);
+        statistics.clear();
+
+        Product product = productRepository.findById(productId).orElseThrow();
+
+        assertEquals("Vélo cache", product.getName());
+        assertEquals(0, statistics.getPrepareStatementCount());
+        assertTrue(statistics.getDomainDataRegionStatistics(CacheRegions.PRODUCTS).getHitCount() > 0);
+    }
+
+    @Test
+    @DisplayName("Le stock mis à jour est visible immédiatement malgré le cache")
+    void testUpdateStock_CacheStaysConsistent() {
+        Long version = productRepository.findById(productId).orElseThrow().getVersion();
+
+        productService.updateProduct(productId, new ProductUpdateDTO("Vélo cache", 60, 250.0, 3, version));
+
+        assertEquals(3, productRepository.findById(productId).orElseThrow().getStock());
+    }
+
+    @Test
+    @DisplayName("La version renvoyée par une modification permet d'enchaîner la suivante")
+    void testUpdateProduct_ReturnedVersionAcceptedByNextUpdate() {
+        Long version = productRepository.findById(productId).orElseThrow().getVersion();
+
+        ProductResponseDTO first = productService.updateProduct(productId, new ProductUpdateDTO("Vélo cache", 60, 250.0, 4, version));
+        assertEquals(version + 1, first.getVersion());
+        ProductResponseDTO second = productService.updateProduct(productId, new ProductUpdateDTO("Vélo cache", 60, 250.0, 5, first.getVersion()));
+
+        assertEquals(version + 2, second.getVersion());
+        assertEquals(productRepository.findById(productId).orElseThrow().getVersion(), second.getVersion());
+    }
+
+    @Test
+    @DisplayName("La recherche par nom est servie par le cache de requêtes puis invalidée par une écriture")
+    void testSearchByName_QueryCacheInvalidatedOnWrite() {
+        productService.searchProductsByName("cache");
+        statistics.clear();
+
+        List<ProductResponseDTO> cached = productService.searchProductsByName("cache");
+        assertEquals(1, cached.size());
+        assertEquals(1, statistics.getQueryCacheHitCount());
+        assertEquals(0, statistics.getPrepareStatementCount());
+
+        Long version = productRepository.findById(productId).orElseThrow().getVersion();
+        productService.updateProduct(productId, new ProductUpdateDTO("Vélo cache", 60, 250.0, 7, version));
+        statistics.clear();
+
+        List<ProductResponseDTO> refreshed = productService.searchProductsByName("cache");
+        assertEquals(7, refreshed.get(0).getStock());
+        assertEquals(0, statistics.getQueryCacheHitCount());
+    }
+}
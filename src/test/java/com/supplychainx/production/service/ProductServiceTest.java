@@ -1,6 +1,7 @@
 package com.supplychainx.production.service;
 
 import com.supplychainx.exception.BusinessRuleException;
+import com.supplychainx.exception.ConflictException;
 import com.supplychainx.exception.ResourceNotFoundException;
 import com.supplychainx.production.dto.ProductCreateDTO;
 import com.supplychainx.production.dto.ProductResponseDTO;
@@ -51,6 +52,7 @@ class ProductServiceTest {
         product.setProductionTime(120);
         product.setCost(500.0);
         product.setStock(50);
+        product.setVersion(3L);
 
         createDTO = new ProductCreateDTO();
         createDTO.setName("Nouveau Produit");
@@ -63,6 +65,7 @@ class ProductServiceTest {
         updateDTO.setProductionTime(150);
         updateDTO.setCost(600.0);
         updateDTO.setStock(75);
+        updateDTO.setVersion(3L);
 
         responseDTO = new ProductResponseDTO();
         responseDTO.setIdProduct(1L);
@@ -105,11 +108,23 @@ class ProductServiceTest {
     @DisplayName("Modifier un produit existant avec succès")
     void testUpdateProduct_Success() {
         when(productRepository.findById(1L)).thenReturn(Optional.of(product));
-        when(productRepository.save(any(Product.class))).thenReturn(product);
+        when(productRepository.saveAndFlush(any(Product.class))).thenReturn(product);
         ProductResponseDTO result = productService.updateProduct(1L, updateDTO);
         assertNotNull(result);
         verify(productRepository, times(1)).findById(1L);
-        verify(productRepository, times(1)).save(product);
+        verify(productRepository, times(1)).saveAndFlush(product);
+    }
+
+    @Test
+    @DisplayName("Modifier un produit avec une version périmée doit lever un conflit")
+    void testUpdateProduct_WithStaleVersion_ShouldThrowConflict() {
+        updateDTO.setVersion(2L);
+        when(productRepository.findById(1L)).thenReturn(Optional.of(product));
+
+        assertThrows(ConflictException.class, () -> productService.updateProduct(1L, updateDTO));
+
+        assertEquals(50, product.getStock());
+        verify(productRepository, never()).saveAndFlush(any(Product.class));
     }
 
     @Test
@@ -121,7 +136,7 @@ class ProductServiceTest {
             productService.updateProduct(999L, updateDTO);
         });
         verify(productRepository, times(1)).findById(999L);
-        verify(productRepository, never()).save(any(Product.class));
+        verify(productRepository, never()).saveAndFlush(any(Product.class));
     }
 
     
@@ -266,4 +281,25 @@ class ProductServiceTest {
         assertFalse(result, "Le stock devrait être insuffisant");
         assertEquals(10, product.getStock());
     }
+
+    @Test
+    @DisplayName("Ajuster le stock d'un produit par variation relative")
+    void testAdjustStock_AppliesDelta() {
+        when(productRepository.findById(1L)).thenReturn(Optional.of(product));
+        when(productRepository.saveAndFlush(product)).thenReturn(product);
+
+        ProductResponseDTO result = productService.adjustStock(1L, -20);
+
+        assertEquals(30, result.getStock());
+    }
+
+    @Test
+    @DisplayName("Ajuster le stock d'un produit - Stock insuffisant")
+    void testAdjustStock_RejectsNegativeStock() {
+        when(productRepository.findById(1L)).thenReturn(Optional.of(product));
+
+        assertThrows(BusinessRuleException.class, () -> productService.adjustStock(1L, -51));
+        assertEquals(50, product.getStock());
+        verify(productRepository, never()).saveAndFlush(any());
+    }
 }
@@ -1,5 +1,7 @@
 package com.supplychainx.production.service;
 
+import com.supplychainx.common.dto.CursorPageDTO;
+import com.supplychainx.common.pagination.CursorCodec;
 import com.supplychainx.exception.BusinessRuleException;
 import com.supplychainx.exception.ResourceNotFoundException;
 import com.supplychainx.mapper.ProductMapper;
@@ -19,6 +21,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
 
 import java.time.LocalDate;
 import java.util.ArrayList;
@@ -261,6 +264,39 @@ class ProductionOrderServiceTest {
         verify(productionOrderRepository, times(1)).findAll();
     }
 
+    @Test
+    @DisplayName("Page par curseur avec filtre de statut et page suivante")
+    void testGetProductionOrdersPage_WithStatus_ShouldReturnNextCursor() {
+        ProductionOrder order2 = new ProductionOrder();
+        order2.setIdOrder(2L);
+        when(productionOrderRepository.findByStatusAndIdOrderGreaterThanOrderByIdOrderAsc(
+                ProductionOrderStatus.EN_ATTENTE, 0L, Limit.of(2)))
+                .thenReturn(Arrays.asList(productionOrder, order2));
+        when(productionOrderMapper.toResponseDTO(productionOrder)).thenReturn(responseDTO);
+
+        CursorPageDTO<ProductionOrderResponseDTO> page =
+                productionOrderService.getProductionOrdersPage(null, 1, "EN_ATTENTE");
+
+        assertEquals(1, page.getItems().size());
+        assertTrue(page.isHasMore());
+        assertEquals(1L, CursorCodec.decode(page.getNextCursor()));
+        verify(productionOrderRepository, never()).findAll();
+    }
+
+    @Test
+    @DisplayName("Dernière page par curseur sans curseur suivant")
+    void testGetProductionOrdersPage_LastPage() {
+        when(productionOrderRepository.findByIdOrderGreaterThanOrderByIdOrderAsc(1L, Limit.of(51)))
+                .thenReturn(new ArrayList<>());
+
+        CursorPageDTO<ProductionOrderResponseDTO> page =
+                productionOrderService.getProductionOrdersPage(CursorCodec.encode(1L), null, null);
+
+        assertTrue(page.getItems().isEmpty());
+        assertFalse(page.isHasMore());
+        assertNull(page.getNextCursor());
+    }
+
     
     @Test
     @DisplayName("Récupérer les ordres par statut EN_ATTENTE")
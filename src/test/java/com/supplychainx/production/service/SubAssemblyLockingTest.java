@@ -0,0 +1,123 @@
+package com.supplychainx.production.service;
+
+import com.supplychainx.config.TestSecurityConfig;
+import com.supplychainx.production.entity.BillOfMaterial;
+import com.supplychainx.production.entity.Product;
+import com.supplychainx.production.repository.BillOfMaterialRepository;
+import com.supplychainx.production.repository.ProductRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Verrous des écritures de sous-ensembles sur une base réelle : chaque transaction est
+ * validée (pas de @Transactional sur la classe), un second thread tient les verrous.
+ */
+@Import(TestSecurityConfig.class)
+@SpringBootTest
+@ActiveProfiles("test")
+class SubAssemblyLockingTest {
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private BillOfMaterialRepository billOfMaterialRepository;
+
+    @Autowired
+    private BomExplosionEngine bomExplosionEngine;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transaction;
+    private Product bike;
+    private Product wheel;
+    private Product rim;
+    private Product helmet;
+    private BillOfMaterial wheelRim;
+
+    @BeforeEach
+    void setUp() {
+        transaction = new TransactionTemplate(transactionManager);
+        bike = productRepository.save(product("Vélo verrou"));
+        wheel = productRepository.save(product("Roue verrou"));
+        rim = productRepository.save(product("Jante verrou"));
+        helmet = productRepository.save(product("Casque verrou"));
+        wheelRim = billOfMaterialRepository.save(new BillOfMaterial(null, wheel, null, rim, 1));
+    }
+
+    @AfterEach
+    void tearDown() {
+        billOfMaterialRepository.deleteById(wheelRim.getIdBOM());
+        productRepository.deleteAllById(List.of(bike.getIdProduct(), wheel.getIdProduct(),
+                rim.getIdProduct(), helmet.getIdProduct()));
+    }
+
+    @Test
+    @DisplayName("La portée d'un sous-ensemble couvre le parent et le contenu validé de l'enfant")
+    void testSubAssemblyWriteScope_ParentAndCommittedDescendants() {
+        Set<Long> scope = bomExplosionEngine.subAssemblyWriteScope(bike.getIdProduct(), wheel.getIdProduct());
+
+        assertEquals(Set.of(bike.getIdProduct(), wheel.getIdProduct(), rim.getIdProduct()), scope);
+    }
+
+    @Test
+    @DisplayName("Seules les lignes produits demandées sont verrouillées")
+    void testLockForSubAssemblyWrite_LocksOnlyRequestedRows() throws Exception {
+        CountDownLatch locked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Void> holder = CompletableFuture.runAsync(() -> transaction.executeWithoutResult(status -> {
+            productRepository.lockForSubAssemblyWrite(List.of(bike.getIdProduct(), wheel.getIdProduct()));
+            locked.countDown();
+            await(release);
+        }));
+        try {
+            assertTrue(locked.await(10, TimeUnit.SECONDS));
+
+            List<Product> other = transaction.execute(status ->
+                    productRepository.lockForSubAssemblyWrite(List.of(rim.getIdProduct(), helmet.getIdProduct())));
+            assertEquals(List.of(rim.getIdProduct(), helmet.getIdProduct()),
+                    other.stream().map(Product::getIdProduct).toList());
+
+            assertThrows(PessimisticLockingFailureException.class, () -> transaction.executeWithoutResult(status ->
+                    productRepository.lockForSubAssemblyWrite(List.of(wheel.getIdProduct()))));
+        } finally {
+            release.countDown();
+            holder.get(10, TimeUnit.SECONDS);
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(30, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static Product product(String name) {
+        Product product = new Product();
+        product.setName(name);
+        product.setProductionTime(60);
+        product.setCost(100.0);
+        product.setStock(0);
+        return product;
+    }
+}
@@ -0,0 +1,103 @@
+package com.supplychainx.security;
+
+import com.supplychainx.common.entity.User;
+import com.supplychainx.common.enums.UserRole;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+
+class AuthenticationCacheTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private AuthenticationCache authenticationCache;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        authenticationCache = new AuthenticationCache(100, Duration.ofMinutes(5), meterRegistry);
+
+        user = new User();
+        user.setIdUser(1L);
+        user.setEmail("jean.dupont@supplychainx.com");
+        user.setRole(UserRole.CHEF_PRODUCTION);
+    }
+
+    @Test
+    void testGet_WithSamePassword_ShouldReturnCachedUser() {
+        authenticationCache.put(user.getEmail(), "password123", user);
+
+        assertSame(user, authenticationCache.get(user.getEmail(), "password123").orElseThrow());
+    }
+
+    @Test
+    void testGet_WithDifferentPassword_ShouldMiss() {
+        authenticationCache.put(user.getEmail(), "password123", user);
+
+        assertTrue(authenticationCache.get(user.getEmail(), "wrongpassword").isEmpty());
+    }
+
+    @Test
+    void testEvict_ShouldRemoveEntry() {
+        authenticationCache.put(user.getEmail(), "password123", user);
+
+        authenticationCache.evict(user.getEmail());
+
+        assertTrue(authenticationCache.get(user.getEmail(), "password123").isEmpty());
+    }
+
+    @Test
+    void testEvict_WithStoredEmail_ShouldRemoveEntryCachedUnderDifferentCase() {
+        authenticationCache.put(" Jean.Dupont@SupplyChainX.com", "password123", user);
+
+        assertTrue(authenticationCache.get("jean.dupont@supplychainx.com ", "password123").isPresent());
+        authenticationCache.evict(user.getEmail());
+
+        assertTrue(authenticationCache.get(" Jean.Dupont@SupplyChainX.com", "password123").isEmpty());
+    }
+
+    @Test
+    void testEvictAfterCommit_ShouldKeepEntryUntilCommit() {
+        authenticationCache.put(user.getEmail(), "password123", user);
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            authenticationCache.evictAfterCommit(user.getEmail());
+
+            assertTrue(authenticationCache.get(user.getEmail(), "password123").isPresent());
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertTrue(authenticationCache.get(user.getEmail(), "password123").isEmpty());
+    }
+
+    @Test
+    void testEvictAfterCommit_WithoutTransaction_ShouldEvictImmediately() {
+        authenticationCache.put(user.getEmail(), "password123", user);
+
+        authenticationCache.evictAfterCommit(user.getEmail());
+
+        assertTrue(authenticationCache.get(user.getEmail(), "password123").isEmpty());
+    }
+
+    @Test
+    void testMetrics_ShouldRecordHitsAndMisses() {
+        authenticationCache.get(user.getEmail(), "password123");
+        authenticationCache.put(user.getEmail(), "password123", user);
+        authenticationCache.get(user.getEmail(), "password123");
+
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("cache", "auth.credentials").tag("result", "hit")
+                .functionCounter().count());
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("cache", "auth.credentials").tag("result", "miss")
+                .functionCounter().count());
+    }
+}
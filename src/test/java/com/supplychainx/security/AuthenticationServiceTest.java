@@ -3,6 +3,7 @@ package com.supplychainx.security;
 import com.supplychainx.common.entity.User;
 import com.supplychainx.common.enums.UserRole;
 import com.supplychainx.common.repository.UserRepository;
+import com.supplychainx.exception.TooManyRequestsException;
 import com.supplychainx.exception.UnauthorizedException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -15,6 +16,8 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 
 
@@ -27,6 +30,15 @@ class AuthenticationServiceTest {
     @Mock
     private PasswordEncoder passwordEncoder; 
 
+    @Mock
+    private AuthenticationCache authenticationCache;
+
+    @Mock
+    private LoginAttemptLimiter loginAttemptLimiter;
+
+    @Mock
+    private KnownEmailFilter knownEmailFilter;
+
     @InjectMocks
     private AuthenticationService authenticationService;
 
@@ -60,6 +72,56 @@ class AuthenticationServiceTest {
         verify(passwordEncoder, times(1)).matches("password123", testUser.getPassword());
     }
 
+    @Test
+    void testAuthenticate_WithValidCredentials_ShouldPopulateCache() {
+        when(userRepository.findByEmail("jean.dupont@supplychainx.com"))
+                .thenReturn(Optional.of(testUser));
+        when(passwordEncoder.matches("password123", testUser.getPassword()))
+                .thenReturn(true);
+
+        authenticationService.authenticate("jean.dupont@supplychainx.com", "password123");
+
+        verify(authenticationCache, times(1)).put("jean.dupont@supplychainx.com", "password123", testUser);
+    }
+
+    @Test
+    void testAuthenticate_WithOutdatedHashCost_ShouldRehashAndSave() {
+        String originalHash = testUser.getPassword();
+        when(userRepository.findByEmail("jean.dupont@supplychainx.com"))
+                .thenReturn(Optional.of(testUser));
+        when(passwordEncoder.matches("password123", originalHash)).thenReturn(true);
+        when(passwordEncoder.upgradeEncoding(originalHash)).thenReturn(true);
+        when(passwordEncoder.encode("password123")).thenReturn("$2a$08$rehashed");
+
+        authenticationService.authenticate("jean.dupont@supplychainx.com", "password123");
+
+        assertEquals("$2a$08$rehashed", testUser.getPassword());
+        verify(userRepository, times(1)).save(testUser);
+    }
+
+    @Test
+    void testAuthenticate_WithCurrentHashCost_ShouldNotRehash() {
+        when(userRepository.findByEmail("jean.dupont@supplychainx.com"))
+                .thenReturn(Optional.of(testUser));
+        when(passwordEncoder.matches("password123", testUser.getPassword())).thenReturn(true);
+
+        authenticationService.authenticate("jean.dupont@supplychainx.com", "password123");
+
+        verify(passwordEncoder, never()).encode(anyString());
+        verify(userRepository, never()).save(any(User.class));
+    }
+
+    @Test
+    void testAuthenticate_WithCachedCredentials_ShouldSkipRepositoryAndBCrypt() {
+        when(authenticationCache.get("jean.dupont@supplychainx.com", "password123"))
+                .thenReturn(Optional.of(testUser));
+
+        User result = authenticationService.authenticate("jean.dupont@supplychainx.com", "password123");
+
+        assertSame(testUser, result);
+        verifyNoInteractions(userRepository, passwordEncoder);
+    }
+
     @Test
     void testAuthenticate_WithInvalidEmail_ShouldThrowException() {
         when(userRepository.findByEmail("wrong@email.com"))
@@ -80,6 +142,55 @@ class AuthenticationServiceTest {
             authenticationService.authenticate("jean.dupont@supplychainx.com", "wrongpassword");
         });
         verify(passwordEncoder, times(1)).matches("wrongpassword", testUser.getPassword());
+        verify(authenticationCache, never()).put(anyString(), anyString(), any(User.class));
+    }
+
+    @Test
+    void testAuthenticate_WithInvalidPassword_ShouldRecordFailure() {
+        when(userRepository.findByEmail("jean.dupont@supplychainx.com"))
+                .thenReturn(Optional.of(testUser));
+        when(passwordEncoder.matches("wrongpassword", testUser.getPassword()))
+                .thenReturn(false);
+
+        assertThrows(UnauthorizedException.class, () ->
+                authenticationService.authenticate("jean.dupont@supplychainx.com", "wrongpassword", "10.0.0.1"));
+
+        verify(loginAttemptLimiter, times(1)).recordFailure("jean.dupont@supplychainx.com", "10.0.0.1");
+        verify(loginAttemptLimiter, never()).reset(anyString());
+    }
+
+    @Test
+    void testAuthenticate_WhenThrottled_ShouldRejectBeforeHashing() {
+        doThrow(new TooManyRequestsException("Trop de tentatives", 60))
+                .when(loginAttemptLimiter).checkAllowed("jean.dupont@supplychainx.com", "10.0.0.1");
+
+        assertThrows(TooManyRequestsException.class, () ->
+                authenticationService.authenticate("jean.dupont@supplychainx.com", "password123", "10.0.0.1"));
+
+        verifyNoInteractions(userRepository, passwordEncoder);
+        verify(authenticationCache, never()).put(anyString(), anyString(), any(User.class));
+    }
+
+    @Test
+    void testAuthenticate_WhenThrottled_WithCachedCredentials_ShouldStillSucceed() {
+        when(authenticationCache.get("jean.dupont@supplychainx.com", "password123"))
+                .thenReturn(Optional.of(testUser));
+
+        User result = authenticationService.authenticate("jean.dupont@supplychainx.com", "password123", "10.0.0.1");
+
+        assertSame(testUser, result);
+        verifyNoInteractions(loginAttemptLimiter, userRepository, passwordEncoder);
+    }
+
+    @Test
+    void testAuthenticate_WithEmailAbsentFromFilter_ShouldSkipRepository() {
+        when(knownEmailFilter.definitelyAbsent("inconnu@supplychainx.com")).thenReturn(true);
+
+        assertThrows(UnauthorizedException.class, () ->
+                authenticationService.authenticate("inconnu@supplychainx.com", "password123"));
+
+        verifyNoInteractions(userRepository, passwordEncoder);
+        verify(loginAttemptLimiter, times(1)).recordFailure("inconnu@supplychainx.com", null);
     }
 
     @Test
@@ -0,0 +1,45 @@
+package com.supplychainx.security;
+
+import com.supplychainx.common.enums.UserRole;
+import com.supplychainx.exception.UnauthorizedException;
+import com.supplychainx.production.controller.BillOfMaterialController;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Method;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+
+class AuthorizationTableTest {
+
+    private AuthorizationTable authorizationTable;
+    private Method getAllBillOfMaterials;
+
+    @BeforeEach
+    void setUp() throws NoSuchMethodException {
+        authorizationTable = AuthorizationTable.forControllers(BillOfMaterialController.class);
+        getAllBillOfMaterials = BillOfMaterialController.class.getMethod("getAllBillOfMaterials");
+    }
+
+    @Test
+    void testScan_ShouldRegisterEveryAnnotatedMethod() {
+        assertEquals(6, authorizationTable.size());
+    }
+
+    @Test
+    void testCheck_WithListedRole_ShouldPass() {
+        assertDoesNotThrow(() -> authorizationTable.check(getAllBillOfMaterials, UserRole.SUPERVISEUR_PRODUCTION));
+    }
+
+    @Test
+    void testCheck_WithAdmin_ShouldAlwaysPass() {
+        assertDoesNotThrow(() -> authorizationTable.check(getAllBillOfMaterials, UserRole.ADMIN));
+    }
+
+    @Test
+    void testCheck_WithOtherRole_ShouldThrowException() {
+        assertThrows(UnauthorizedException.class,
+                () -> authorizationTable.check(getAllBillOfMaterials, UserRole.CHEF_PRODUCTION));
+    }
+}
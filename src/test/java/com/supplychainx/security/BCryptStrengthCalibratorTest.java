@@ -0,0 +1,47 @@
+package com.supplychainx.security;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+
+class BCryptStrengthCalibratorTest {
+
+    // Modèle de coût BCrypt : 1 ms au coût 4, doublé à chaque point
+    private static long simulatedNanos(int strength) {
+        return 1_000_000L << (strength - 4);
+    }
+
+    @Test
+    void testCalibrate_ShouldPickHighestStrengthUnderTarget() {
+        List<Integer> measured = new ArrayList<>();
+
+        int strength = BCryptStrengthCalibrator.calibrate(Duration.ofMillis(100), 4, 14, candidate -> {
+            measured.add(candidate);
+            return simulatedNanos(candidate);
+        });
+
+        assertEquals(10, strength);
+        assertEquals(List.of(4, 5, 6, 7, 8, 9, 10, 11), measured);
+    }
+
+    @Test
+    void testCalibrate_ShouldNeverGoBelowMinimum() {
+        int strength = BCryptStrengthCalibrator.calibrate(Duration.ofMillis(1), 10, 14,
+                BCryptStrengthCalibratorTest::simulatedNanos);
+
+        assertEquals(10, strength);
+    }
+
+    @Test
+    void testCalibrate_ShouldNeverExceedMaximum() {
+        int strength = BCryptStrengthCalibrator.calibrate(Duration.ofSeconds(60), 4, 12,
+                BCryptStrengthCalibratorTest::simulatedNanos);
+
+        assertEquals(12, strength);
+    }
+}
@@ -0,0 +1,102 @@
+package com.supplychainx.security;
+
+import com.supplychainx.exception.ServiceUnavailableException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+
+class BoundedPasswordEncoderTest {
+
+    private final CountDownLatch release = new CountDownLatch(1);
+    private SimpleMeterRegistry meterRegistry;
+    private BoundedPasswordEncoder passwordEncoder;
+    private ExecutorService callers;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        PasswordEncoder blockingEncoder = new PasswordEncoder() {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                return rawPassword.toString();
+            }
+
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return rawPassword.toString().equals(encodedPassword);
+            }
+        };
+        passwordEncoder = new BoundedPasswordEncoder(blockingEncoder, 1, 1,
+                Duration.ofSeconds(10), Duration.ofSeconds(3), meterRegistry);
+        callers = Executors.newFixedThreadPool(2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        callers.shutdownNow();
+        passwordEncoder.destroy();
+    }
+
+    @Test
+    void testMatches_WhenPoolIsFree_ShouldDelegate() {
+        release.countDown();
+
+        assertTrue(passwordEncoder.matches("password123", "password123"));
+        assertFalse(passwordEncoder.matches("password123", "autre"));
+    }
+
+    @Test
+    void testMatches_WhenQueueIsFull_ShouldFailFast() throws Exception {
+        Future<Boolean> running = callers.submit(() -> passwordEncoder.matches("a", "a"));
+        awaitActive(1);
+        Future<Boolean> queued = callers.submit(() -> passwordEncoder.matches("b", "b"));
+        awaitQueueDepth(1);
+
+        ServiceUnavailableException exception = assertThrows(ServiceUnavailableException.class,
+                () -> passwordEncoder.matches("c", "c"));
+
+        assertEquals(3, exception.getRetryAfterSeconds());
+        assertEquals(1.0, meterRegistry.get("security.password.verification.rejected").counter().count());
+
+        release.countDown();
+        assertTrue(running.get(5, TimeUnit.SECONDS));
+        assertTrue(queued.get(5, TimeUnit.SECONDS));
+        assertEquals(2, meterRegistry.get("security.password.verification.wait").timer().count());
+    }
+
+    private void awaitActive(int expected) throws InterruptedException {
+        awaitGauge("security.password.verification.active", expected);
+    }
+
+    private void awaitQueueDepth(int expected) throws InterruptedException {
+        awaitGauge("security.password.verification.queue.depth", expected);
+    }
+
+    private void awaitGauge(String name, int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (meterRegistry.get(name).gauge().value() < expected) {
+            if (System.nanoTime() > deadline) {
+                fail("Jauge " + name + " jamais atteinte");
+            }
+            Thread.sleep(10);
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.supplychainx.security;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+
+class CalibratedBCryptPasswordEncoderTest {
+
+    private final CalibratedBCryptPasswordEncoder passwordEncoder = new CalibratedBCryptPasswordEncoder(6);
+
+    @Test
+    void testUpgradeEncoding_WithSameCost_ShouldReturnFalse() {
+        String hash = passwordEncoder.encode("password123");
+
+        assertTrue(hash.startsWith("$2a$06$"));
+        assertFalse(passwordEncoder.upgradeEncoding(hash));
+        assertTrue(passwordEncoder.matches("password123", hash));
+    }
+
+    @Test
+    void testUpgradeEncoding_WithLowerCost_ShouldReturnTrue() {
+        assertTrue(passwordEncoder.upgradeEncoding("$2a$04$N9qo8uLOickgx2ZMRZoMyeIjZAgcfl7p92ldGxad68LJZdL17lhWy"));
+    }
+
+    @Test
+    void testUpgradeEncoding_WithHigherCost_ShouldReturnTrue() {
+        assertTrue(passwordEncoder.upgradeEncoding("$2a$10$N9qo8uLOickgx2ZMRZoMyeIjZAgcfl7p92ldGxad68LJZdL17lhWy"));
+    }
+
+    @Test
+    void testUpgradeEncoding_WithNonBCryptHash_ShouldReturnFalse() {
+        assertFalse(passwordEncoder.upgradeEncoding("password123"));
+        assertFalse(passwordEncoder.upgradeEncoding(null));
+    }
+}
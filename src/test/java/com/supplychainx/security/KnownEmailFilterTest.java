@@ -0,0 +1,117 @@
+package com.supplychainx.security;
+
+import com.supplychainx.common.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+
+@ExtendWith(MockitoExtension.class)
+class KnownEmailFilterTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    private final long[] now = {0};
+    private SimpleMeterRegistry meterRegistry;
+    private KnownEmailFilter knownEmailFilter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        knownEmailFilter = new KnownEmailFilter(userRepository, 0.01, Duration.ofSeconds(5), () -> now[0], meterRegistry);
+    }
+
+    @Test
+    void testDefinitelyAbsent_BeforeFirstBuild_ShouldNeverReject() {
+        assertFalse(knownEmailFilter.definitelyAbsent("inconnu@supplychainx.com"));
+    }
+
+    @Test
+    void testDefinitelyAbsent_AfterRebuild_ShouldKnowExistingEmails() {
+        when(userRepository.findAllEmails()).thenReturn(List.of("admin@supplychainx.com", "Jean.Dupont@supplychainx.com"));
+
+        knownEmailFilter.rebuild();
+
+        assertFalse(knownEmailFilter.definitelyAbsent("admin@supplychainx.com"));
+        assertFalse(knownEmailFilter.definitelyAbsent("jean.dupont@supplychainx.com"));
+        verify(userRepository, times(1)).findAllEmails();
+    }
+
+    @Test
+    void testAdd_ShouldMakeNewEmailKnown() {
+        when(userRepository.findAllEmails()).thenReturn(List.of());
+        knownEmailFilter.rebuild();
+
+        knownEmailFilter.add("nouveau@supplychainx.com");
+
+        assertFalse(knownEmailFilter.definitelyAbsent("nouveau@supplychainx.com"));
+    }
+
+    @Test
+    void testDefinitelyAbsent_WithUserInsertedAfterRebuild_ShouldCatchUp() {
+        when(userRepository.findMaxIdUser()).thenReturn(1L, 2L);
+        when(userRepository.findAllEmails()).thenReturn(List.of("admin@supplychainx.com"));
+        when(userRepository.findEmailsByIdUserGreaterThan(1L)).thenReturn(List.of("autre.noeud@supplychainx.com"));
+        knownEmailFilter.rebuild();
+
+        assertFalse(knownEmailFilter.definitelyAbsent("autre.noeud@supplychainx.com"));
+        assertFalse(knownEmailFilter.definitelyAbsent("autre.noeud@supplychainx.com"));
+        verify(userRepository, times(1)).findEmailsByIdUserGreaterThan(1L);
+    }
+
+    @Test
+    void testDefinitelyAbsent_WithoutNewUser_ShouldRejectWithoutLoadingEmails() {
+        when(userRepository.findMaxIdUser()).thenReturn(1L);
+        when(userRepository.findAllEmails()).thenReturn(List.of("admin@supplychainx.com"));
+        knownEmailFilter.rebuild();
+
+        assertTrue(knownEmailFilter.definitelyAbsent("inconnu@supplychainx.com"));
+        verify(userRepository, never()).findEmailsByIdUserGreaterThan(anyLong());
+    }
+
+    @Test
+    void testDefinitelyAbsent_ShouldCatchUpAtMostOncePerInterval() {
+        when(userRepository.findMaxIdUser()).thenReturn(1L);
+        when(userRepository.findAllEmails()).thenReturn(List.of("admin@supplychainx.com"));
+        knownEmailFilter.rebuild();
+
+        assertTrue(knownEmailFilter.definitelyAbsent("inconnu1@supplychainx.com"));
+        now[0] += TimeUnit.SECONDS.toNanos(4);
+        assertTrue(knownEmailFilter.definitelyAbsent("inconnu2@supplychainx.com"));
+        verify(userRepository, times(2)).findMaxIdUser();
+
+        now[0] += TimeUnit.SECONDS.toNanos(2);
+        assertTrue(knownEmailFilter.definitelyAbsent("inconnu3@supplychainx.com"));
+        verify(userRepository, times(3)).findMaxIdUser();
+    }
+
+    @Test
+    void testFalsePositiveRate_ShouldStayNearTarget() {
+        List<String> emails = IntStream.range(0, 1000)
+                .mapToObj(i -> "user" + i + "@supplychainx.com")
+                .toList();
+        when(userRepository.findAllEmails()).thenReturn(emails);
+        knownEmailFilter.rebuild();
+
+        long falsePositives = IntStream.range(0, 10_000)
+                .filter(i -> !knownEmailFilter.definitelyAbsent("absent" + i + "@supplychainx.com"))
+                .count();
+
+        assertTrue(falsePositives < 300, "Taux de faux positifs trop élevé : " + falsePositives);
+        assertTrue(knownEmailFilter.expectedFalsePositiveRate() < 0.02);
+        assertEquals(10_000 - falsePositives,
+                meterRegistry.get("security.email.filter.rejected").counter().count());
+    }
+}
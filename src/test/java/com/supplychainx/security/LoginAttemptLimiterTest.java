@@ -0,0 +1,102 @@
+package com.supplychainx.security;
+
+import com.supplychainx.exception.TooManyRequestsException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+
+class LoginAttemptLimiterTest {
+
+    private static final String EMAIL = "jean.dupont@supplychainx.com";
+
+    private final AtomicLong now = new AtomicLong();
+    private LoginAttemptLimiter limiter;
+
+    @BeforeEach
+    void setUp() {
+        limiter = new LoginAttemptLimiter(3, 5, Duration.ofMinutes(5), 10_000, now::get, new SimpleMeterRegistry());
+    }
+
+    @Test
+    void testCheckAllowed_BelowAccountLimit_ShouldPass() {
+        limiter.recordFailure(EMAIL, "10.0.0.1");
+        limiter.recordFailure(EMAIL, "10.0.0.1");
+
+        assertDoesNotThrow(() -> limiter.checkAllowed(EMAIL, "10.0.0.1"));
+    }
+
+    @Test
+    void testCheckAllowed_AtAccountLimit_ShouldThrowWithRetryAfter() {
+        for (int i = 0; i < 3; i++) {
+            limiter.recordFailure(EMAIL, "10.0.0." + i);
+        }
+        now.addAndGet(Duration.ofMinutes(1).toNanos());
+
+        TooManyRequestsException exception = assertThrows(TooManyRequestsException.class,
+                () -> limiter.checkAllowed(EMAIL.toUpperCase(), "10.0.0.9"));
+        assertEquals(Duration.ofMinutes(4).toSeconds(), exception.getRetryAfterSeconds());
+    }
+
+    @Test
+    void testCheckAllowed_AtAddressLimit_ShouldThrowForAnyAccount() {
+        for (int i = 0; i < 5; i++) {
+            limiter.recordFailure("user" + i + "@supplychainx.com", "10.0.0.1");
+        }
+
+        assertThrows(TooManyRequestsException.class, () -> limiter.checkAllowed("autre@supplychainx.com", "10.0.0.1"));
+        assertDoesNotThrow(() -> limiter.checkAllowed("autre@supplychainx.com", "10.0.0.2"));
+    }
+
+    @Test
+    void testCheckAllowed_AfterWindow_ShouldPassAgain() {
+        for (int i = 0; i < 3; i++) {
+            limiter.recordFailure(EMAIL, null);
+        }
+        now.addAndGet(Duration.ofMinutes(5).toNanos());
+
+        assertDoesNotThrow(() -> limiter.checkAllowed(EMAIL, null));
+    }
+
+    @Test
+    void testReset_ShouldClearAccountFailures() {
+        for (int i = 0; i < 3; i++) {
+            limiter.recordFailure(EMAIL, null);
+        }
+
+        limiter.reset(EMAIL);
+
+        assertDoesNotThrow(() -> limiter.checkAllowed(EMAIL, null));
+    }
+
+    @Test
+    void testRecordFailure_WithRandomEmails_ShouldStayBounded() {
+        LoginAttemptLimiter bounded = new LoginAttemptLimiter(3, 1_000_000, Duration.ofMinutes(5), 640,
+                now::get, new SimpleMeterRegistry());
+
+        for (int i = 0; i < 50_000; i++) {
+            bounded.recordFailure("aleatoire" + i + "@exemple.com", "10.0.0.1");
+        }
+
+        assertTrue(bounded.trackedKeys() <= 640);
+        for (int i = 0; i < 3; i++) {
+            bounded.recordFailure(EMAIL, "10.0.0.1");
+        }
+        assertThrows(TooManyRequestsException.class, () -> bounded.checkAllowed(EMAIL, "10.0.0.2"));
+    }
+
+    @Test
+    void testCheckAllowed_AfterWindow_ShouldForgetEmptyKeys() {
+        limiter.recordFailure(EMAIL, null);
+        now.addAndGet(Duration.ofMinutes(5).toNanos());
+
+        limiter.checkAllowed(EMAIL, null);
+
+        assertEquals(0, limiter.trackedKeys());
+    }
+}
@@ -0,0 +1,124 @@
+package com.supplychainx.security;
+
+import com.supplychainx.common.entity.User;
+import com.supplychainx.common.enums.UserRole;
+import com.supplychainx.exception.UnauthorizedException;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.aspectj.lang.JoinPoint;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+
+@ExtendWith(MockitoExtension.class)
+class SecurityAspectTest {
+
+    @Mock
+    private AuthenticationService authenticationService;
+
+    @Mock
+    private TokenService tokenService;
+
+    @Mock
+    private JoinPoint joinPoint;
+
+    @Mock
+    private MethodSignature methodSignature;
+
+    private SimpleMeterRegistry meterRegistry;
+    private SecurityAspect securityAspect;
+    private ServletRequestAttributes requestAttributes;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        securityAspect = new SecurityAspect(authenticationService, tokenService,
+                AuthorizationTable.forControllers(SecuredEndpoints.class), meterRegistry);
+
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("email", "jean.dupont@supplychainx.com");
+        request.addHeader("password", "password123");
+        requestAttributes = new ServletRequestAttributes(request);
+        RequestContextHolder.setRequestAttributes(requestAttributes);
+
+        user = new User();
+        user.setIdUser(1L);
+        user.setRole(UserRole.PLANIFICATEUR);
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void testBothAdvices_ShouldAuthenticateOncePerRequest() throws NoSuchMethodException {
+        when(authenticationService.authenticate("jean.dupont@supplychainx.com", "password123", "127.0.0.1"))
+                .thenReturn(user);
+        when(joinPoint.getSignature()).thenReturn(methodSignature);
+        when(methodSignature.getMethod()).thenReturn(SecuredEndpoints.class.getMethod("planning"));
+
+        securityAspect.checkAuthentication(joinPoint);
+        securityAspect.checkAuthorization(joinPoint);
+
+        verify(authenticationService, times(1)).authenticate(any(), any(), any());
+        assertEquals(1L, CallerContext.current().map(AuthenticatedUser::getIdUser).orElseThrow());
+
+        requestAttributes.requestCompleted();
+
+        DistributionSummary summary = meterRegistry.get("security.authentications.per.request").summary();
+        assertEquals(1, summary.count());
+        assertEquals(1.0, summary.totalAmount());
+    }
+
+    @Test
+    void testFailedAuthentication_ShouldCountEveryAttemptOfTheRequest() throws NoSuchMethodException {
+        when(authenticationService.authenticate("jean.dupont@supplychainx.com", "password123", "127.0.0.1"))
+                .thenThrow(new UnauthorizedException("Email ou mot de passe incorrect"))
+                .thenReturn(user);
+        when(joinPoint.getSignature()).thenReturn(methodSignature);
+        when(methodSignature.getMethod()).thenReturn(SecuredEndpoints.class.getMethod("planning"));
+
+        assertThrows(UnauthorizedException.class, () -> securityAspect.checkAuthentication(joinPoint));
+        securityAspect.checkAuthorization(joinPoint);
+        requestAttributes.requestCompleted();
+
+        verify(authenticationService, times(2)).authenticate(any(), any(), any());
+        DistributionSummary summary = meterRegistry.get("security.authentications.per.request").summary();
+        assertEquals(1, summary.count());
+        assertEquals(2.0, summary.totalAmount());
+    }
+
+    @Test
+    void testBearerToken_ShouldNotCallPasswordAuthentication() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("Authorization", "Bearer abc.def");
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+        when(tokenService.verify("abc.def")).thenReturn(new AuthenticatedUser(1L, UserRole.PLANIFICATEUR));
+
+        securityAspect.checkAuthentication(joinPoint);
+
+        verify(authenticationService, never()).authenticate(any(), any(), any());
+    }
+
+    static class SecuredEndpoints {
+
+        @RequiresAuth
+        @RequiresRole(UserRole.PLANIFICATEUR)
+        public void planning() {
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.supplychainx.security;
+
+import com.supplychainx.common.entity.User;
+import com.supplychainx.common.enums.UserRole;
+import com.supplychainx.exception.UnauthorizedException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+
+class TokenServiceTest {
+
+    private static final Instant NOW = Instant.parse("2025-01-01T08:00:00Z");
+    private static final String SECRET = "secret-de-test-suffisamment-long-32";
+
+    private TokenService tokenService;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        tokenService = new TokenService(SECRET, Duration.ofHours(1), Clock.fixed(NOW, ZoneOffset.UTC));
+
+        user = new User();
+        user.setIdUser(42L);
+        user.setEmail("jean.dupont@supplychainx.com");
+        user.setRole(UserRole.PLANIFICATEUR);
+    }
+
+    @Test
+    void testVerify_WithIssuedToken_ShouldReturnPrincipal() {
+        TokenService.IssuedToken issued = tokenService.issue(user);
+
+        AuthenticatedUser principal = tokenService.verify(issued.token());
+
+        assertEquals(42L, principal.getIdUser());
+        assertEquals(UserRole.PLANIFICATEUR, principal.getRole());
+        assertEquals(NOW.plus(Duration.ofHours(1)), issued.expiresAt());
+    }
+
+    @Test
+    void testVerify_WithTamperedPayload_ShouldThrowException() {
+        String token = tokenService.issue(user).token();
+        user.setRole(UserRole.ADMIN);
+        String forgedPayload = tokenService.issue(user).token().split("\\.")[0];
+        String tampered = forgedPayload + "." + token.split("\\.")[1];
+
+        assertThrows(UnauthorizedException.class, () -> tokenService.verify(tampered));
+    }
+
+    @Test
+    void testVerify_WithOtherSecret_ShouldThrowException() {
+        TokenService other = new TokenService("un-autre-secret-de-test-de-32-octets", Duration.ofHours(1), Clock.fixed(NOW, ZoneOffset.UTC));
+        String token = other.issue(user).token();
+
+        assertThrows(UnauthorizedException.class, () -> tokenService.verify(token));
+    }
+
+    @Test
+    void testVerify_WithExpiredToken_ShouldThrowException() {
+        String token = tokenService.issue(user).token();
+        TokenService later = new TokenService(SECRET, Duration.ofHours(1),
+                Clock.fixed(NOW.plus(Duration.ofHours(2)), ZoneOffset.UTC));
+
+        assertThrows(UnauthorizedException.class, () -> later.verify(token));
+    }
+
+    @Test
+    void testVerify_WithMalformedToken_ShouldThrowException() {
+        assertThrows(UnauthorizedException.class, () -> tokenService.verify("pas-un-jeton"));
+        assertThrows(UnauthorizedException.class, () -> tokenService.verify("abc.%%%"));
+    }
+
+    @Test
+    void testConstructor_WithShortSecret_ShouldRefuseToStart() {
+        assertThrows(IllegalStateException.class,
+                () -> new TokenService("trop-court", Duration.ofHours(1), Clock.systemUTC()));
+    }
+
+    @Test
+    void testConstructor_WithPlaceholderSecret_ShouldRefuseToStart() {
+        assertThrows(IllegalStateException.class,
+                () -> new TokenService("change-me-supplychainx-token-secret", Duration.ofHours(1), Clock.systemUTC()));
+    }
+}